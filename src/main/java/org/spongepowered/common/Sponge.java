@@ -33,6 +33,7 @@
 import org.spongepowered.api.Game;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.common.configuration.SpongeConfig;
+import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.launch.SpongeLaunch;
 import org.spongepowered.common.registry.SpongeGameRegistry;
 
@@ -94,6 +95,10 @@ public static SpongeGameRegistry getSpongeRegistry() {
         return (SpongeGameRegistry) getInstance().game.getRegistry();
     }
 
+    public static SpongeEventManager getSpongeEventManager() {
+        return (SpongeEventManager) getInstance().game.getEventManager();
+    }
+
     public static Logger getLogger() {
         return getInstance().logger;
     }
@@ -34,6 +34,7 @@
 import net.minecraft.world.WorldServer;
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.Sponge;
+import org.spongepowered.common.interfaces.IMixinTileEntity;
 
 import java.io.File;
 import java.io.FileWriter;
@@ -94,6 +95,7 @@ public static void writeChunks(File file, boolean logAll) {
 
                 TObjectIntHashMap<ChunkCoordIntPair> chunkTileCounts = new TObjectIntHashMap<ChunkCoordIntPair>();
                 TObjectIntHashMap<Class> classTileCounts = new TObjectIntHashMap<Class>();
+                int sleepingTiles = 0;
                 writer.name("tiles").beginArray();
                 for (int i = 0; i < world.loadedTileEntityList.size(); i++) {
                     TileEntity tile = (TileEntity) world.loadedTileEntityList.get(i);
@@ -111,8 +113,12 @@ public static void writeChunks(File file, boolean logAll) {
                     ChunkCoordIntPair chunkCoords = new ChunkCoordIntPair(tile.getPos().getX() >> 4, tile.getPos().getZ() >> 4);
                     chunkTileCounts.adjustOrPutValue(chunkCoords, 1, 1);
                     classTileCounts.adjustOrPutValue(tile.getClass(), 1, 1);
+                    if (((IMixinTileEntity) tile).isSleeping()) {
+                        sleepingTiles++;
+                    }
                 }
                 writer.endArray();
+                writer.name("sleepingTiles").value(sleepingTiles);
 
                 if (logAll) {
                     writeChunkCounts(writer, "topEntityColliders", entityCollisionCounts, 20);
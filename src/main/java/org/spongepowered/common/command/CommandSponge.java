@@ -66,17 +66,25 @@
 import org.spongepowered.asm.mixin.MixinEnvironment;
 import org.spongepowered.common.Sponge;
 import org.spongepowered.common.configuration.SpongeConfig;
+import org.spongepowered.common.event.HandlerTimings;
+import org.spongepowered.common.event.RegisteredHandler;
 import org.spongepowered.common.interfaces.IMixinWorld;
 import org.spongepowered.common.interfaces.IMixinWorldProvider;
+import org.spongepowered.common.service.scheduler.AsyncScheduler;
+import org.spongepowered.common.service.scheduler.SpongeScheduler;
+import org.spongepowered.common.service.scheduler.SyncScheduler;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.DimensionManager;
 import org.spongepowered.common.world.SpongeDimensionType;
+import org.spongepowered.common.world.TileEntityTickThrottle;
 
 import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -100,6 +108,7 @@ public static CommandSpec getCommand() {
         nonFlagChildren.register(getAuditCommand(), "audit");
         nonFlagChildren.register(getHeapCommand(), "heap");
         nonFlagChildren.register(getPluginsCommand(), "plugins");
+        nonFlagChildren.register(getTimingsCommand(), "timings");
         flagChildren.register(getChunksCommand(), "chunks");
         flagChildren.register(getConfigCommand(), "config");
         flagChildren.register(getReloadCommand(), "reload"); // TODO: Should these two be subcommands of config, and what is now config be set?
@@ -114,7 +123,8 @@ INDENT, title("reload"), LONG_INDENT, "Reloads a global, dimension, or world con
                         INDENT, title("save"), LONG_INDENT, "Saves a global, dimension, or world config\n",
                         INDENT, title("version"), LONG_INDENT, "Prints current Sponge version\n",
                         INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation",
-                        INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins"))
+                        INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
+                        INDENT, title("timings"), LONG_INDENT, "Show event handler and scheduler timings"))
                 .arguments(firstParsing(nonFlagChildren, flags()
                         .flag("-global", "g")
                         .valueFlag(world(Texts.of("world"), Sponge.getGame()), "-world", "w")
@@ -269,6 +279,7 @@ protected Text process(SpongeConfig<?> config, CommandSource source, CommandCont
 
                         if (value.isPresent()) { // Set
                             setting.setValue(value.get());
+                            config.refresh();
                             return Texts.builder().append(Texts.of(TextColors.GOLD, key), Texts.of(" set to "),
                                     title(String.valueOf(setting.getValue()))).build();
                         } else {
@@ -359,6 +370,144 @@ public CommandResult execute(CommandSource src, CommandContext args) throws Comm
                 .build();
     }
 
+    private static CommandSpec getTimingsCommand() {
+        final ChildCommandElementExecutor children = new ChildCommandElementExecutor(null);
+        children.register(getEventTimingsCommand(), "events");
+        children.register(getSchedulerTimingsCommand(), "scheduler");
+        children.register(getEntityTimingsCommand(), "entities");
+        children.register(getTileEntityTimingsCommand(), "tiles");
+        return CommandSpec.builder()
+                .description(Texts.of("Show timings"))
+                .permission("sponge.command.timings")
+                .arguments(children)
+                .executor(children)
+                .build();
+    }
+
+    private static CommandSpec getSchedulerTimingsCommand() {
+        return CommandSpec.builder()
+                .description(Texts.of("Show the scheduler usage"))
+                .permission("sponge.command.timings.scheduler")
+                .executor(new CommandExecutor() {
+                    @Override
+                    public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+                        AsyncScheduler scheduler = SpongeScheduler.getInstance().getAsyncScheduler();
+                        src.sendMessage(Texts.of(title("Async pool: "), scheduler.getPoolSize(), " threads, ", scheduler.getActiveCount(),
+                                " active, ", scheduler.getQueueSize(), " queued"));
+                        SyncScheduler syncScheduler = SpongeScheduler.getInstance().getSyncScheduler();
+                        src.sendMessage(Texts.of(title("Sync tasks: "), syncScheduler.getDeferredCount(), " waiting for the tick budget, ",
+                                syncScheduler.getTotalDeferred(), " deferred in total by up to ", syncScheduler.getMaxDeferredTicks(), " ticks"));
+                        for (Map.Entry<String, AsyncScheduler.PluginUsage> entry : scheduler.getPluginUsage().entrySet()) {
+                            src.sendMessage(Texts.of(INDENT, entry.getKey(), ": ", entry.getValue().getTasks(), " tasks, ",
+                                    TimeUnit.NANOSECONDS.toMillis(entry.getValue().getTime()), " ms"));
+                        }
+                        return CommandResult.success();
+                    }
+                })
+                .build();
+    }
+
+    private static CommandSpec getEntityTimingsCommand() {
+        return CommandSpec.builder()
+                .description(Texts.of("Show how many entities were ticked in the last tick of each world"))
+                .permission("sponge.command.timings.entities")
+                .executor(new CommandExecutor() {
+                    @Override
+                    public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+                        for (World world : Sponge.getGame().getServer().getWorlds()) {
+                            IMixinWorld mixinWorld = (IMixinWorld) world;
+                            src.sendMessage(Texts.of(title(world.getName() + ": "), mixinWorld.getActiveEntityCount(), " active, ",
+                                    mixinWorld.getInactiveEntityCount(), " inactive entities"));
+                        }
+                        return CommandResult.success();
+                    }
+                })
+                .build();
+    }
+
+    private static CommandSpec getTileEntityTimingsCommand() {
+        Map<String, String> actions = Maps.newHashMap();
+        for (String action : new String[] {"on", "off", "reset"}) {
+            actions.put(action, action);
+        }
+        return CommandSpec.builder()
+                .description(Texts.of("Show, toggle or reset tile entity update timings"))
+                .permission("sponge.command.timings.tiles")
+                .arguments(optional(choices(Texts.of("action"), actions)))
+                .executor(new CommandExecutor() {
+                    @Override
+                    public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+                        String action = args.<String>getOne("action").or("");
+                        if (action.equals("on")) {
+                            TileEntityTickThrottle.setTimingsEnabled(true);
+                            src.sendMessage(Texts.of("Tile entity timings enabled"));
+                        } else if (action.equals("off")) {
+                            TileEntityTickThrottle.setTimingsEnabled(false);
+                            src.sendMessage(Texts.of("Tile entity timings disabled"));
+                        } else if (action.equals("reset")) {
+                            TileEntityTickThrottle.resetTimings();
+                            src.sendMessage(Texts.of("Tile entity timings reset"));
+                        } else {
+                            if (!TileEntityTickThrottle.isTimingsEnabled()) {
+                                src.sendMessage(Texts.of("Tile entity timings are disabled, enable them with ", title("/sponge timings tiles on")));
+                            }
+                            for (Map.Entry<String, TileEntityTickThrottle.Timings> entry : TileEntityTickThrottle.getTimings().entrySet()) {
+                                TileEntityTickThrottle.Timings timings = entry.getValue();
+                                src.sendMessage(Texts.of(INDENT, entry.getKey(), ": ", timings.getUpdates(), " updates, ", timings.getSkipped(),
+                                        " skipped, ", TimeUnit.NANOSECONDS.toMillis(timings.getTime()), " ms"));
+                            }
+                        }
+                        return CommandResult.success();
+                    }
+                })
+                .build();
+    }
+
+    private static CommandSpec getEventTimingsCommand() {
+        Map<String, String> actions = Maps.newHashMap();
+        for (String action : new String[] {"on", "off", "reset", "dump"}) {
+            actions.put(action, action);
+        }
+        return CommandSpec.builder()
+                .description(Texts.of("Show, toggle, reset or dump event handler timings"))
+                .permission("sponge.command.timings.events")
+                .arguments(optional(choices(Texts.of("action"), actions)))
+                .executor(new CommandExecutor() {
+                    @Override
+                    public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+                        String action = args.<String>getOne("action").or("");
+                        if (action.equals("on")) {
+                            HandlerTimings.setSampleInterval(Sponge.getGlobalConfig().getConfig().getEvents().getTimingsSampleInterval());
+                            HandlerTimings.setEnabled(true);
+                            src.sendMessage(Texts.of("Event timings enabled"));
+                        } else if (action.equals("off")) {
+                            HandlerTimings.setEnabled(false);
+                            src.sendMessage(Texts.of("Event timings disabled"));
+                        } else if (action.equals("reset")) {
+                            for (RegisteredHandler<?> handler : Sponge.getSpongeEventManager().getRegisteredHandlers()) {
+                                handler.getTimings().reset();
+                            }
+                            src.sendMessage(Texts.of("Event timings reset"));
+                        } else if (action.equals("dump")) {
+                            File file = new File(new File(new File("."), "timings-dumps"),
+                                    "event-timings-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()) + "-server.json");
+                            src.sendMessage(Texts.of("Writing event timings to: ", file));
+                            TimingsSaveHelper.writeEventTimings(file);
+                            src.sendMessage(Texts.of("Event timings complete"));
+                        } else {
+                            if (!HandlerTimings.isEnabled()) {
+                                src.sendMessage(Texts.of("Event timings are disabled, enable them with ", title("/sponge timings events on")));
+                            }
+                            for (TimingsSaveHelper.EventTimings timings : Iterables.limit(TimingsSaveHelper.getEventTimings(), 10)) {
+                                src.sendMessage(Texts.of(INDENT, timings.toString()));
+                            }
+                        }
+                        return CommandResult.success();
+                    }
+                })
+                .build();
+    }
+
     private static class PluginsCommandElement extends PatternMatchingCommandElement {
 
         protected PluginsCommandElement(@Nullable Text key) {
@@ -0,0 +1,145 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Longs;
+import com.google.gson.stream.JsonWriter;
+import net.minecraft.server.MinecraftServer;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.Sponge;
+import org.spongepowered.common.event.HandlerTimings;
+import org.spongepowered.common.event.RegisteredHandler;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class TimingsSaveHelper {
+
+    /**
+     * Collects the timings of all registered event handlers, summed up per
+     * plugin, event type and order and sorted by total time.
+     *
+     * @return The event timings
+     */
+    public static List<EventTimings> getEventTimings() {
+        Map<List<Object>, EventTimings> timingsByKey = Maps.newHashMap();
+        for (RegisteredHandler<?> handler : Sponge.getSpongeEventManager().getRegisteredHandlers()) {
+            List<Object> key = Lists.<Object>newArrayList(handler.getPlugin(), handler.getEventClass(), handler.getOrder());
+            EventTimings timings = timingsByKey.get(key);
+            if (timings == null) {
+                timings = new EventTimings(handler.getPlugin(), handler.getEventClass(), handler.getOrder());
+                timingsByKey.put(key, timings);
+            }
+            timings.add(handler.getTimings());
+        }
+
+        List<EventTimings> timings = Lists.newArrayList(timingsByKey.values());
+        Collections.sort(timings, new Comparator<EventTimings>() {
+
+            @Override
+            public int compare(EventTimings t1, EventTimings t2) {
+                return Longs.compare(t2.totalTime, t1.totalTime);
+            }
+        });
+        return timings;
+    }
+
+    public static void writeEventTimings(File file) {
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+
+            FileWriter fileWriter = new FileWriter(file);
+            JsonWriter writer = new JsonWriter(fileWriter);
+            writer.setIndent("  ");
+            writer.beginObject();
+            writer.name("sampleInterval").value(HandlerTimings.getSampleInterval());
+            writer.name("handlers").beginArray();
+            for (EventTimings timings : getEventTimings()) {
+                writer.beginObject();
+                writer.name("plugin").value(timings.plugin.getId());
+                writer.name("event").value(timings.eventClass.getName());
+                writer.name("order").value(timings.order.name());
+                writer.name("calls").value(timings.calls);
+                writer.name("totalTimeNanos").value(timings.totalTime);
+                writer.name("maxTimeNanos").value(timings.maxTime);
+                writer.name("exceptions").value(timings.exceptions);
+                writer.endObject();
+            }
+            writer.endArray();
+            writer.endObject();
+            writer.close();
+            fileWriter.close();
+        } catch (Throwable throwable) {
+            MinecraftServer.getServer().logSevere("Could not save event timings report to " + file);
+        }
+    }
+
+    public static final class EventTimings {
+
+        final PluginContainer plugin;
+        final Class<?> eventClass;
+        final Order order;
+        long calls;
+        long totalTime;
+        long maxTime;
+        long exceptions;
+
+        EventTimings(PluginContainer plugin, Class<?> eventClass, Order order) {
+            this.plugin = plugin;
+            this.eventClass = eventClass;
+            this.order = order;
+        }
+
+        void add(HandlerTimings timings) {
+            this.calls += timings.getCalls();
+            this.totalTime += timings.getTotalTime();
+            this.maxTime = Math.max(this.maxTime, timings.getMaxTime());
+            this.exceptions += timings.getExceptions();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s %s: %d calls, %.2f ms total, %.3f ms avg, %.3f ms max, %d exceptions", this.plugin.getId(),
+                    this.eventClass.getSimpleName(), this.order, this.calls, toMillis(this.totalTime),
+                    this.calls == 0 ? 0D : toMillis(this.totalTime / this.calls), toMillis(this.maxTime), this.exceptions);
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+    }
+
+}
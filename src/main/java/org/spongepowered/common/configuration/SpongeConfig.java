@@ -40,6 +40,8 @@
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 @SuppressWarnings("unused")
 public class SpongeConfig<T extends SpongeConfig.ConfigBase> {
 
@@ -76,6 +78,16 @@ public enum Type {
     public static final String ENTITY_ACTIVATION_RANGE_MISC = "misc-activation-range";
     public static final String ENTITY_HUMAN_PLAYER_LIST_REMOVE_DELAY = "human-player-list-remove-delay";
 
+    // EVENTS
+    public static final String EVENTS_ASYNC_THREADS = "async-threads";
+    public static final String EVENTS_TIMINGS_SAMPLE_INTERVAL = "timings-sample-interval";
+
+    // SCHEDULER
+    public static final String SCHEDULER_ASYNC_POOL_SIZE = "async-pool-size";
+    public static final String SCHEDULER_ASYNC_QUEUE_CAPACITY = "async-queue-capacity";
+    public static final String SCHEDULER_ASYNC_SATURATION_POLICY = "async-saturation-policy";
+    public static final String SCHEDULER_SYNC_TICK_BUDGET = "sync-tick-budget";
+
     // GENERAL
     public static final String GENERAL_DISABLE_WARNINGS = "disable-warnings";
     public static final String GENERAL_CHUNK_LOAD_OVERRIDE = "chunk-load-override";
@@ -93,9 +105,18 @@ public enum Type {
     // MODULES
     public static final String MODULE_ENTITY_ACTIVATION_RANGE = "entity-activation-range";
 
+    // TILE ENTITY
+    public static final String TILE_ENTITY_TICK_INTERVALS = "tick-intervals";
+    public static final String TILE_ENTITY_SLEEP_IDLE = "sleep-idle";
+    public static final String TILE_ENTITY_IDLE_TICK_INTERVAL = "idle-tick-interval";
+
     // WORLD
     public static final String WORLD_INFINITE_WATER_SOURCE = "infinite-water-source";
     public static final String WORLD_FLOWING_LAVA_DECAY = "flowing-lava-decay";
+    public static final String WORLD_CHUNK_LOAD_TICK_BUDGET = "chunk-load-tick-budget";
+    public static final String WORLD_SPAWN_PREPARATION_RADIUS = "spawn-preparation-radius";
+    public static final String WORLD_PARALLEL_GENERATION = "parallel-generation";
+    public static final String WORLD_GENERATION_LOOK_AHEAD = "generation-look-ahead";
 
     private static final String HEADER = "1.0\n"
             + "\n"
@@ -105,6 +126,9 @@ public enum Type {
             + "# IRC: #sponge @ irc.esper.net ( http://webchat.esper.net/?channel=sponge )\n"
             + "# Forums: https://forums.spongepowered.org/\n";
 
+    // Bumped whenever any config is (re)loaded or changed, see SpongeConfigSnapshot
+    private static volatile int generation;
+
     private Type type;
     private HoconConfigurationLoader loader;
     private CommentedConfigurationNode root = SimpleCommentedConfigurationNode.root(ConfigurationOptions.defaults()
@@ -173,6 +197,29 @@ public void reload() {
         } catch (ObjectMappingException e) {
             LogManager.getLogger().error(ExceptionUtils.getStackTrace(e));
         }
+        generation++;
+    }
+
+    /**
+     * Applies values set on the nodes of this config to the config object,
+     * without reading the file again.
+     */
+    public void refresh() {
+        try {
+            this.configBase = this.configMapper.populate(this.root.getNode(this.modId));
+        } catch (ObjectMappingException e) {
+            LogManager.getLogger().error(ExceptionUtils.getStackTrace(e));
+        }
+        generation++;
+    }
+
+    /**
+     * Gets a counter that changes every time a config is loaded or changed.
+     *
+     * @return The current generation
+     */
+    public static int getGeneration() {
+        return generation;
     }
 
     public CommentedConfigurationNode getRootNode() {
@@ -210,6 +257,12 @@ public static class GlobalConfig extends ConfigBase {
         @Setting(value = "modules")
         private ModuleCategory mixins = new ModuleCategory();
 
+        @Setting
+        private EventsCategory events = new EventsCategory();
+
+        @Setting
+        private SchedulerCategory scheduler = new SchedulerCategory();
+
         public SqlCategory getSql() {
             return this.sql;
         }
@@ -221,6 +274,14 @@ public CommandsCategory getCommands() {
         public ModuleCategory getModules() {
             return this.mixins;
         }
+
+        public EventsCategory getEvents() {
+            return this.events;
+        }
+
+        public SchedulerCategory getScheduler() {
+            return this.scheduler;
+        }
     }
 
     public static class DimensionConfig extends ConfigBase {
@@ -255,6 +316,8 @@ public static class ConfigBase {
         private GeneralCategory general = new GeneralCategory();
         @Setting
         private LoggingCategory logging = new LoggingCategory();
+        @Setting(value = "tile-entity")
+        private TileEntityCategory tileEntity = new TileEntityCategory();
         @Setting
         private WorldCategory world = new WorldCategory();
 
@@ -286,6 +349,10 @@ public LoggingCategory getLogging() {
             return this.logging;
         }
 
+        public TileEntityCategory getTileEntity() {
+            return this.tileEntity;
+        }
+
         public WorldCategory getWorld() {
             return this.world;
         }
@@ -311,6 +378,83 @@ public Map<String, String> getAliases() {
         }
     }
 
+    @ConfigSerializable
+    public static class EventsCategory extends Category {
+
+        @Setting(value = EVENTS_ASYNC_THREADS, comment = "Number of threads thread-safe handlers of asynchronously posted events are called on")
+        private int asyncThreads = 2;
+        @Setting(value = EVENTS_TIMINGS_SAMPLE_INTERVAL,
+                comment = "Only every n-th call of a handler is timed when event timings are enabled. Set to 1 to time every call")
+        private int timingsSampleInterval = 1;
+
+        public int getAsyncThreads() {
+            return Math.max(1, this.asyncThreads);
+        }
+
+        public void setAsyncThreads(int asyncThreads) {
+            this.asyncThreads = asyncThreads;
+        }
+
+        public int getTimingsSampleInterval() {
+            return Math.max(1, this.timingsSampleInterval);
+        }
+
+        public void setTimingsSampleInterval(int timingsSampleInterval) {
+            this.timingsSampleInterval = timingsSampleInterval;
+        }
+    }
+
+    @ConfigSerializable
+    public static class SchedulerCategory extends Category {
+
+        @Setting(value = SCHEDULER_ASYNC_POOL_SIZE,
+                comment = "Max number of threads running asynchronous tasks, once all are busy tasks wait for a free thread.\n"
+                        + "Idle threads stop after a minute")
+        private int asyncPoolSize = 32;
+        @Setting(value = SCHEDULER_ASYNC_QUEUE_CAPACITY, comment = "Number of asynchronous tasks that can wait for a free thread")
+        private int asyncQueueCapacity = 1024;
+        @Setting(value = SCHEDULER_ASYNC_SATURATION_POLICY,
+                comment = "What to do with asynchronous tasks if all threads are busy and the queue is full.\n"
+                        + "'abort' drops the new task, 'discard-oldest' drops the task that waited longest. Both log an error")
+        private String asyncSaturationPolicy = "abort";
+        @Setting(value = SCHEDULER_SYNC_TICK_BUDGET,
+                comment = "Milliseconds per tick synchronous tasks may take, due tasks over budget run in the next tick(s), "
+                        + "taking turns per plugin. Set to 0 to disable")
+        private int syncTickBudget = 0;
+
+        public int getAsyncPoolSize() {
+            return Math.max(1, this.asyncPoolSize);
+        }
+
+        public void setAsyncPoolSize(int asyncPoolSize) {
+            this.asyncPoolSize = asyncPoolSize;
+        }
+
+        public int getAsyncQueueCapacity() {
+            return Math.max(1, this.asyncQueueCapacity);
+        }
+
+        public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+            this.asyncQueueCapacity = asyncQueueCapacity;
+        }
+
+        public String getAsyncSaturationPolicy() {
+            return this.asyncSaturationPolicy;
+        }
+
+        public void setAsyncSaturationPolicy(String asyncSaturationPolicy) {
+            this.asyncSaturationPolicy = asyncSaturationPolicy;
+        }
+
+        public int getSyncTickBudget() {
+            return this.syncTickBudget;
+        }
+
+        public void setSyncTickBudget(int syncTickBudget) {
+            this.syncTickBudget = syncTickBudget;
+        }
+    }
+
     @SuppressWarnings("UnusedDeclaration")
     @ConfigSerializable
     public static class DebugCategory extends Category {
@@ -606,6 +750,45 @@ public void setPluginEntityActivation(boolean pluginEntityActivation) {
         }
     }
 
+    @ConfigSerializable
+    public static class TileEntityCategory extends Category {
+
+        @Setting(value = TILE_ENTITY_TICK_INTERVALS,
+                comment = "A mapping from tile entity id (e.g. Hopper) to the number of ticks between its updates. Unlisted types update every tick")
+        private Map<String, Integer> tickIntervals = new HashMap<String, Integer>();
+        @Setting(value = TILE_ENTITY_SLEEP_IDLE,
+                comment = "Put idle tile entities (unfuelled furnaces, closed chests) to sleep until a neighbour or their "
+                        + "inventory changes")
+        private boolean sleepIdle = false;
+        @Setting(value = TILE_ENTITY_IDLE_TICK_INTERVAL, comment = "Number of ticks between updates of a sleeping tile entity")
+        private int idleTickInterval = 20;
+
+        public Map<String, Integer> getTickIntervals() {
+            return this.tickIntervals;
+        }
+
+        public int getTickInterval(@Nullable String tileEntityId) {
+            Integer interval = tileEntityId == null ? null : this.tickIntervals.get(tileEntityId);
+            return interval == null ? 1 : interval;
+        }
+
+        public boolean sleepIdle() {
+            return this.sleepIdle;
+        }
+
+        public void setSleepIdle(boolean sleepIdle) {
+            this.sleepIdle = sleepIdle;
+        }
+
+        public int getIdleTickInterval() {
+            return this.idleTickInterval;
+        }
+
+        public void setIdleTickInterval(int idleTickInterval) {
+            this.idleTickInterval = idleTickInterval;
+        }
+    }
+
     @ConfigSerializable
     public static class WorldCategory extends Category {
 
@@ -613,6 +796,20 @@ public static class WorldCategory extends Category {
         private boolean infiniteWaterSource = false;
         @Setting(value = WORLD_FLOWING_LAVA_DECAY, comment = "Lava behaves like vanilla water when source block is removed")
         private boolean flowingLavaDecay = false;
+        @Setting(value = WORLD_CHUNK_LOAD_TICK_BUDGET,
+                comment = "Milliseconds per tick that may be spent adding asynchronously loaded chunks to the world. Set to 0 for no limit")
+        private int chunkLoadTickBudget = 5;
+        @Setting(value = WORLD_SPAWN_PREPARATION_RADIUS,
+                comment = "Radius in blocks around the spawn point that is loaded when the world loads, if it keeps its spawn loaded")
+        private int spawnPreparationRadius = 192;
+        @Setting(value = WORLD_PARALLEL_GENERATION,
+                comment = "Generate the terrain of chunks on several threads, ahead of the players.\n"
+                        + "Only enable this if the generator populator and biome generator of the world are thread-safe, "
+                        + "which the vanilla biome layers are not")
+        private boolean parallelGeneration = false;
+        @Setting(value = WORLD_GENERATION_LOOK_AHEAD,
+                comment = "Number of chunks beyond the view distance that are generated ahead of the players with parallel generation")
+        private int generationLookAhead = 2;
 
         public boolean hasInfiniteWaterSource() {
             return this.infiniteWaterSource;
@@ -629,6 +826,38 @@ public boolean hasFlowingLavaDecay() {
         public void setFlowingLavaDecay(boolean flowingLavaDecay) {
             this.flowingLavaDecay = flowingLavaDecay;
         }
+
+        public int getChunkLoadTickBudget() {
+            return this.chunkLoadTickBudget;
+        }
+
+        public void setChunkLoadTickBudget(int chunkLoadTickBudget) {
+            this.chunkLoadTickBudget = chunkLoadTickBudget;
+        }
+
+        public int getSpawnPreparationRadius() {
+            return Math.max(0, this.spawnPreparationRadius);
+        }
+
+        public void setSpawnPreparationRadius(int spawnPreparationRadius) {
+            this.spawnPreparationRadius = spawnPreparationRadius;
+        }
+
+        public boolean isParallelGeneration() {
+            return this.parallelGeneration;
+        }
+
+        public void setParallelGeneration(boolean parallelGeneration) {
+            this.parallelGeneration = parallelGeneration;
+        }
+
+        public int getGenerationLookAhead() {
+            return Math.max(0, this.generationLookAhead);
+        }
+
+        public void setGenerationLookAhead(int generationLookAhead) {
+            this.generationLookAhead = generationLookAhead;
+        }
     }
 
     @ConfigSerializable
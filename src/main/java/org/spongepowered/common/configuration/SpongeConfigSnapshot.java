@@ -0,0 +1,170 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.configuration;
+
+/**
+ * The settings of a world read out of its active {@link SpongeConfig} (world,
+ * dimension or global) into plain fields, for the checks that run for every
+ * entity on every tick.
+ *
+ * <p>A snapshot never changes. A new one is taken once the
+ * {@link SpongeConfig#getGeneration() generation} of the configs moves on.</p>
+ */
+public final class SpongeConfigSnapshot {
+
+    private final SpongeConfig<?> config;
+    private final int generation;
+
+    private final int maxSpeed;
+    private final int maxBoundingBoxSize;
+    private final int maxCollisionSize;
+
+    private final int creatureActivationRange;
+    private final int monsterActivationRange;
+    private final int aquaticActivationRange;
+    private final int ambientActivationRange;
+    private final int miscActivationRange;
+
+    private final boolean chunkLoadLogging;
+    private final boolean chunkUnloadLogging;
+    private final boolean entitySpawnLogging;
+    private final boolean entityDespawnLogging;
+    private final boolean entityDeathLogging;
+    private final boolean logWithStackTraces;
+    private final boolean logEntityCollisionChecks;
+    private final boolean logEntitySpeedRemoval;
+
+    private final int chunkLoadTickBudget;
+
+    public SpongeConfigSnapshot(SpongeConfig<?> config, int generation) {
+        this.config = config;
+        this.generation = generation;
+
+        SpongeConfig.ConfigBase base = config.getConfig();
+        SpongeConfig.EntityCategory entity = base.getEntity();
+        this.maxSpeed = entity.getMaxSpeed();
+        this.maxBoundingBoxSize = entity.getMaxBoundingBoxSize();
+        this.maxCollisionSize = entity.getMaxCollisionSize();
+
+        SpongeConfig.EntityActivationRangeCategory ranges = base.getEntityActivationRange();
+        this.creatureActivationRange = ranges.getCreatureActivationRange();
+        this.monsterActivationRange = ranges.getMonsterActivationRange();
+        this.aquaticActivationRange = ranges.getAquaticActivationRange();
+        this.ambientActivationRange = ranges.getAmbientActivationRange();
+        this.miscActivationRange = ranges.getMiscActivationRange();
+
+        SpongeConfig.LoggingCategory logging = base.getLogging();
+        this.chunkLoadLogging = logging.chunkLoadLogging();
+        this.chunkUnloadLogging = logging.chunkUnloadLogging();
+        this.entitySpawnLogging = logging.entitySpawnLogging();
+        this.entityDespawnLogging = logging.entityDespawnLogging();
+        this.entityDeathLogging = logging.entityDeathLogging();
+        this.logWithStackTraces = logging.logWithStackTraces();
+        this.logEntityCollisionChecks = logging.logEntityCollisionChecks();
+        this.logEntitySpeedRemoval = logging.logEntitySpeedRemoval();
+
+        this.chunkLoadTickBudget = base.getWorld().getChunkLoadTickBudget();
+    }
+
+    public SpongeConfig<?> getConfig() {
+        return this.config;
+    }
+
+    public String getConfigName() {
+        return this.config.getConfigName();
+    }
+
+    public int getGeneration() {
+        return this.generation;
+    }
+
+    public int getMaxSpeed() {
+        return this.maxSpeed;
+    }
+
+    public int getMaxBoundingBoxSize() {
+        return this.maxBoundingBoxSize;
+    }
+
+    public int getMaxCollisionSize() {
+        return this.maxCollisionSize;
+    }
+
+    public int getCreatureActivationRange() {
+        return this.creatureActivationRange;
+    }
+
+    public int getMonsterActivationRange() {
+        return this.monsterActivationRange;
+    }
+
+    public int getAquaticActivationRange() {
+        return this.aquaticActivationRange;
+    }
+
+    public int getAmbientActivationRange() {
+        return this.ambientActivationRange;
+    }
+
+    public int getMiscActivationRange() {
+        return this.miscActivationRange;
+    }
+
+    public boolean chunkLoadLogging() {
+        return this.chunkLoadLogging;
+    }
+
+    public boolean chunkUnloadLogging() {
+        return this.chunkUnloadLogging;
+    }
+
+    public boolean entitySpawnLogging() {
+        return this.entitySpawnLogging;
+    }
+
+    public boolean entityDespawnLogging() {
+        return this.entityDespawnLogging;
+    }
+
+    public boolean entityDeathLogging() {
+        return this.entityDeathLogging;
+    }
+
+    public boolean logWithStackTraces() {
+        return this.logWithStackTraces;
+    }
+
+    public boolean logEntityCollisionChecks() {
+        return this.logEntityCollisionChecks;
+    }
+
+    public boolean logEntitySpeedRemoval() {
+        return this.logEntitySpeedRemoval;
+    }
+
+    public int getChunkLoadTickBudget() {
+        return this.chunkLoadTickBudget;
+    }
+}
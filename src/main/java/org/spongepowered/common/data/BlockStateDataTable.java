@@ -0,0 +1,232 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.DataManipulator;
+import org.spongepowered.common.Sponge;
+import org.spongepowered.common.interfaces.block.IMixinBlock;
+import org.spongepowered.common.interfaces.block.IMixinBlockState;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.Nullable;
+
+/**
+ * The data of a single block state, computed once at startup.
+ *
+ * <p>Holds, per block processor slot of the {@link SpongeManipulatorRegistry},
+ * whether the state has that data, the state without that data and the
+ * states reached by offering the manipulator values of the other states of
+ * the same block. Queries on block states become array and map lookups
+ * instead of running the processors.</p>
+ *
+ * <p>Manipulators are mutable, so no manipulator is handed out from here.
+ * The processor still creates a new one for each query of a state that has
+ * the data.</p>
+ */
+public final class BlockStateDataTable {
+
+    private final ImmutableList<DataManipulator<?>> manipulators;
+    private final boolean[] holdsData;
+    private final Optional<?>[] withoutData;
+    private final Map<?, ?>[] transitions;
+
+    private BlockStateDataTable(ImmutableList<DataManipulator<?>> manipulators, boolean[] holdsData, Optional<?>[] withoutData,
+            Map<?, ?>[] transitions) {
+        this.manipulators = manipulators;
+        this.holdsData = holdsData;
+        this.withoutData = withoutData;
+        this.transitions = transitions;
+    }
+
+    public ImmutableList<DataManipulator<?>> getManipulators() {
+        return this.manipulators;
+    }
+
+    /**
+     * Gets whether the state has the data of the given block processor slot.
+     *
+     * @param slot The block processor slot
+     * @return Whether the state has the data
+     */
+    public boolean holdsData(int slot) {
+        return this.holdsData[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<BlockState> withoutData(int slot) {
+        return (Optional<BlockState>) this.withoutData[slot];
+    }
+
+    /**
+     * Gets the state reached by offering the given manipulator to this state.
+     *
+     * @param slot The block processor slot of the manipulator
+     * @param manipulator The manipulator
+     * @return The resulting state, or null if the transition was not
+     *         precomputed and the processor has to be asked
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public Optional<BlockState> withData(int slot, DataManipulator<?> manipulator) {
+        Map<?, ?> transitions = this.transitions[slot];
+        return transitions == null ? null : (Optional<BlockState>) transitions.get(manipulator);
+    }
+
+    /**
+     * Computes the data tables of the states of all registered blocks, one
+     * block per task, and attaches them to the states. Must be called after
+     * the {@link SpongeManipulatorRegistry} is sealed.
+     */
+    public static void computeAll() {
+        SpongeManipulatorRegistry registry = SpongeManipulatorRegistry.getInstance();
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                new ThreadFactoryBuilder().setNameFormat("Sponge Block Data Thread #%d").setDaemon(true).build());
+        try {
+            List<Future<?>> futures = Lists.newArrayList();
+            for (Object block : Block.blockRegistry) {
+                futures.add(executor.submit(new BlockTask((Block) block, registry)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    // The states of that block keep running the processors
+                    Sponge.getLogger().error("Could not compute the block state data", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static final class BlockTask implements Runnable {
+
+        private final Block block;
+        private final SpongeManipulatorRegistry registry;
+
+        BlockTask(Block block, SpongeManipulatorRegistry registry) {
+            this.block = block;
+            this.registry = registry;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void run() {
+            List<IBlockState> states = this.block.getBlockState().getValidStates();
+            int slotCount = this.registry.getBlockProcessorSlotCount();
+
+            // Which data each state has, and its manipulators to key the
+            // transitions with, these are never handed out
+            ImmutableList<DataManipulator<?>>[] lists = new ImmutableList[states.size()];
+            boolean[][] holdsData = new boolean[states.size()][];
+            Optional<?>[][] keys = new Optional<?>[states.size()][];
+            for (int i = 0; i < states.size(); i++) {
+                IBlockState state = states.get(i);
+                lists[i] = ((IMixinBlock) this.block).getManipulators(state);
+                holdsData[i] = new boolean[slotCount];
+                keys[i] = new Optional<?>[slotCount];
+                for (int slot = 0; slot < slotCount; slot++) {
+                    holdsData[i][slot] = holds(lists[i], slot);
+                    keys[i][slot] = holdsData[i][slot] ? this.registry.getBlockProcessorBySlot(slot).createFrom(state) : Optional.absent();
+                }
+            }
+
+            for (int i = 0; i < states.size(); i++) {
+                IBlockState state = states.get(i);
+                Optional<?>[] withoutData = new Optional<?>[slotCount];
+                Map<?, ?>[] transitions = new Map<?, ?>[slotCount];
+                for (int slot = 0; slot < slotCount; slot++) {
+                    SpongeBlockProcessor<?> processor = this.registry.getBlockProcessorBySlot(slot);
+                    withoutData[slot] = holdsData[i][slot] ? processor.removeFrom(state) : Optional.absent();
+                    transitions[slot] = transitions(processor, state, keys, slot);
+                }
+                ((IMixinBlockState) state).setDataTable(new BlockStateDataTable(lists[i], holdsData[i], withoutData, transitions));
+            }
+        }
+
+        private boolean holds(List<DataManipulator<?>> manipulators, int slot) {
+            for (DataManipulator<?> manipulator : manipulators) {
+                if (this.registry.getBlockProcessorSlot(manipulator.getClass()) == slot) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Nullable
+        private static Map<?, ?> transitions(SpongeBlockProcessor<?> processor, IBlockState state, Optional<?>[][] keys, int slot) {
+            Map<DataManipulator<?>, Optional<BlockState>> transitions = Maps.newHashMap();
+            Set<DataManipulator<?>> ambiguous = Sets.newHashSet();
+            for (Optional<?>[] stateKeys : keys) {
+                if (!stateKeys[slot].isPresent()) {
+                    continue;
+                }
+                DataManipulator<?> key = (DataManipulator<?>) stateKeys[slot].get();
+                Optional<BlockState> target;
+                try {
+                    target = withData(processor, state, key);
+                } catch (RuntimeException e) {
+                    // Leave it to the processor when it is asked
+                    continue;
+                }
+                Optional<BlockState> existing = transitions.put(key, target);
+                if (existing != null && !existing.equals(target)) {
+                    // Manipulators that don't compare their values can't be
+                    // used as keys
+                    ambiguous.add(key);
+                }
+            }
+            transitions.keySet().removeAll(ambiguous);
+            return transitions.isEmpty() ? null : ImmutableMap.copyOf(transitions);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T extends DataManipulator<T>> Optional<BlockState> withData(SpongeBlockProcessor<T> processor, IBlockState state,
+                DataManipulator<?> manipulator) {
+            return processor.withData(state, (T) manipulator);
+        }
+
+    }
+
+}
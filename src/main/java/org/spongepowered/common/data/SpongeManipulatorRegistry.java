@@ -29,12 +29,17 @@
 
 import com.google.common.base.Optional;
 import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
 import org.spongepowered.api.data.DataManipulator;
 import org.spongepowered.api.data.DataManipulatorBuilder;
 import org.spongepowered.api.data.DataManipulatorRegistry;
+import org.spongepowered.common.data.util.ClassDispatchTable;
 
+import java.util.IdentityHashMap;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 public class SpongeManipulatorRegistry implements DataManipulatorRegistry {
 
     private static final SpongeManipulatorRegistry instance = new SpongeManipulatorRegistry();
@@ -43,6 +48,12 @@ public class SpongeManipulatorRegistry implements DataManipulatorRegistry {
     private final Map<Class<? extends DataManipulator<?>>, SpongeDataProcessor<?>> dataProcessorMap = new MapMaker().concurrencyLevel(4).makeMap();
     private final Map<Class<? extends DataManipulator<?>>, SpongeBlockProcessor<?>> blockProcessorMap = new MapMaker().concurrencyLevel(4).makeMap();
 
+    // Built by seal(), null while processors can still be registered
+    @Nullable private volatile ClassDispatchTable<SpongeDataProcessor<?>> dataProcessors;
+    @Nullable private volatile ClassDispatchTable<SpongeBlockProcessor<?>> blockProcessors;
+    @Nullable private volatile ClassDispatchTable<Integer> blockProcessorSlots;
+    private volatile SpongeBlockProcessor<?>[] blockProcessorsBySlot = new SpongeBlockProcessor<?>[0];
+
     private SpongeManipulatorRegistry() {
     }
 
@@ -65,7 +76,41 @@ public <T extends DataManipulator<T>> Optional<DataManipulatorBuilder<T>> getBui
         return Optional.fromNullable((DataManipulatorBuilder<T>) (Object) this.builderMap.get(checkNotNull(manipulatorClass)));
     }
 
+    /**
+     * Freezes the registered processors into lookup tables. No processors can
+     * be registered afterwards.
+     */
+    public void seal() {
+        checkState(this.dataProcessors == null, "The manipulator registry is already sealed");
+        this.dataProcessors = new ClassDispatchTable<SpongeDataProcessor<?>>(this.dataProcessorMap);
+        this.blockProcessors = new ClassDispatchTable<SpongeBlockProcessor<?>>(this.blockProcessorMap);
+
+        // Number the block processors, manipulator interfaces and their
+        // implementations share the slot of their processor
+        Map<SpongeBlockProcessor<?>, Integer> slotsByProcessor = new IdentityHashMap<SpongeBlockProcessor<?>, Integer>();
+        Map<Class<?>, Integer> slots = Maps.newHashMap();
+        for (Map.Entry<Class<? extends DataManipulator<?>>, SpongeBlockProcessor<?>> entry : this.blockProcessorMap.entrySet()) {
+            Integer slot = slotsByProcessor.get(entry.getValue());
+            if (slot == null) {
+                slot = slotsByProcessor.size();
+                slotsByProcessor.put(entry.getValue(), slot);
+            }
+            slots.put(entry.getKey(), slot);
+        }
+        SpongeBlockProcessor<?>[] processorsBySlot = new SpongeBlockProcessor<?>[slotsByProcessor.size()];
+        for (Map.Entry<SpongeBlockProcessor<?>, Integer> entry : slotsByProcessor.entrySet()) {
+            processorsBySlot[entry.getValue()] = entry.getKey();
+        }
+        this.blockProcessorsBySlot = processorsBySlot;
+        this.blockProcessorSlots = new ClassDispatchTable<Integer>(slots);
+    }
+
+    private void checkNotSealed() {
+        checkState(this.dataProcessors == null, "Processors can no longer be registered, the manipulator registry is sealed");
+    }
+
     public <T extends DataManipulator<T>> void registerDataProcessor(Class<T> manipulatorClass, SpongeDataProcessor<T> processor) {
+        checkNotSealed();
         checkState(!this.dataProcessorMap.containsKey(checkNotNull(manipulatorClass)), "Already registered a DataProcessor for the given "
                 + "DataManipulator: " + manipulatorClass.getCanonicalName());
         this.dataProcessorMap.put(manipulatorClass, checkNotNull(processor));
@@ -73,6 +118,7 @@ public <T extends DataManipulator<T>> void registerDataProcessor(Class<T> manipu
 
     public <T extends DataManipulator<T>> void registerDataProcessorAndImpl(Class<T> manipulatorClass, Class<? extends T> implClass,
             SpongeDataProcessor<T> processor) {
+        checkNotSealed();
         checkState(!this.dataProcessorMap.containsKey(checkNotNull(manipulatorClass)), "Already registered a DataProcessor for the given "
                 + "DataManipulator: " + manipulatorClass.getCanonicalName());
         checkState(!this.dataProcessorMap.containsKey(checkNotNull(implClass)), "Already registered a DataProcessor for the given "
@@ -81,12 +127,31 @@ public <T extends DataManipulator<T>> void registerDataProcessorAndImpl(Class<T>
         this.dataProcessorMap.put(implClass, processor);
     }
 
-    @SuppressWarnings("unchecked")
     public <T extends DataManipulator<T>> Optional<SpongeDataProcessor<T>> getUtil(Class<T> manipulatorClass) {
-        return Optional.fromNullable((SpongeDataProcessor<T>) (Object) this.dataProcessorMap.get(checkNotNull(manipulatorClass)));
+        return Optional.fromNullable(getProcessor(manipulatorClass));
+    }
+
+    /**
+     * Gets the data processor for the given manipulator class. Implementation
+     * classes resolve to the processor of their manipulator interface.
+     *
+     * @param manipulatorClass The manipulator class
+     * @param <T> The type of manipulator
+     * @return The processor, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T extends DataManipulator<T>> SpongeDataProcessor<T> getProcessor(Class<T> manipulatorClass) {
+        checkNotNull(manipulatorClass);
+        ClassDispatchTable<SpongeDataProcessor<?>> table = this.dataProcessors;
+        if (table != null) {
+            return (SpongeDataProcessor<T>) table.get(manipulatorClass);
+        }
+        return (SpongeDataProcessor<T>) (Object) this.dataProcessorMap.get(manipulatorClass);
     }
 
     public <T extends DataManipulator<T>> void registerBlockProcessor(Class<T> manipulatorclass, SpongeBlockProcessor<T> util) {
+        checkNotSealed();
         if (!this.blockProcessorMap.containsKey(checkNotNull(manipulatorclass))) {
             this.blockProcessorMap.put(manipulatorclass, checkNotNull(util));
         } else {
@@ -97,6 +162,7 @@ public <T extends DataManipulator<T>> void registerBlockProcessor(Class<T> manip
 
     public <T extends DataManipulator<T>> void registerBlockProcessorAndImpl(Class<T> manipulatorClass, Class<? extends T> implClass,
             SpongeBlockProcessor<T> processor) {
+        checkNotSealed();
         checkState(!this.blockProcessorMap.containsKey(checkNotNull(manipulatorClass)), "Already registered a DataProcessor for the given "
                 + "DataManipulator: " + manipulatorClass.getCanonicalName());
         checkState(!this.blockProcessorMap.containsKey(checkNotNull(implClass)), "Already registered a DataProcessor for the given "
@@ -105,8 +171,51 @@ public <T extends DataManipulator<T>> void registerBlockProcessorAndImpl(Class<T
         this.blockProcessorMap.put(implClass, processor);
     }
 
-    @SuppressWarnings("unchecked")
     public <T extends DataManipulator<T>> Optional<SpongeBlockProcessor<T>> getBlockUtil(Class<T> manipulatorClass) {
-        return Optional.fromNullable((SpongeBlockProcessor<T>) (Object) this.blockProcessorMap.get(checkNotNull(manipulatorClass)));
+        return Optional.fromNullable(getBlockProcessor(manipulatorClass));
+    }
+
+    /**
+     * Gets the block processor for the given manipulator class. Implementation
+     * classes resolve to the processor of their manipulator interface.
+     *
+     * @param manipulatorClass The manipulator class
+     * @param <T> The type of manipulator
+     * @return The processor, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T extends DataManipulator<T>> SpongeBlockProcessor<T> getBlockProcessor(Class<T> manipulatorClass) {
+        checkNotNull(manipulatorClass);
+        ClassDispatchTable<SpongeBlockProcessor<?>> table = this.blockProcessors;
+        if (table != null) {
+            return (SpongeBlockProcessor<T>) table.get(manipulatorClass);
+        }
+        return (SpongeBlockProcessor<T>) (Object) this.blockProcessorMap.get(manipulatorClass);
+    }
+
+    /**
+     * Gets the slot of the block processor for the given manipulator class, as
+     * used by the {@link BlockStateDataTable}s.
+     *
+     * @param manipulatorClass The manipulator class
+     * @return The slot, or -1 if there is no block processor or the registry
+     *         is not sealed yet
+     */
+    public int getBlockProcessorSlot(Class<?> manipulatorClass) {
+        ClassDispatchTable<Integer> slots = this.blockProcessorSlots;
+        if (slots == null) {
+            return -1;
+        }
+        Integer slot = slots.get(checkNotNull(manipulatorClass));
+        return slot == null ? -1 : slot;
+    }
+
+    public int getBlockProcessorSlotCount() {
+        return this.blockProcessorsBySlot.length;
+    }
+
+    public SpongeBlockProcessor<?> getBlockProcessorBySlot(int slot) {
+        return this.blockProcessorsBySlot[slot];
     }
 }
@@ -51,13 +51,13 @@ public Optional<T> fill(DataHolder dataHolder) {
     @SuppressWarnings("unchecked")
     @Override
     public Optional<T> fill(DataHolder dataHolder, DataPriority overlap) {
-        SpongeDataProcessor<T> registry = SpongeManipulatorRegistry.getInstance().getUtil(this.manipulatorClass).get();
+        SpongeDataProcessor<T> registry = SpongeManipulatorRegistry.getInstance().getProcessor(this.manipulatorClass);
         return registry.fillData(dataHolder, (T) (Object) this, overlap);
     }
 
     @Override
     public Optional<T> from(DataContainer container) {
-        SpongeDataProcessor<T> builder = SpongeManipulatorRegistry.getInstance().getUtil(this.manipulatorClass).get();
+        SpongeDataProcessor<T> builder = SpongeManipulatorRegistry.getInstance().getProcessor(this.manipulatorClass);
         return builder.build(container);
     }
 
@@ -0,0 +1,194 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.util;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.MapMaker;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * A lookup table from classes to values, compared by identity.
+ *
+ * <p>The registered classes are stored in an open addressed array, so a hit
+ * costs a hash and usually a single comparison. Classes that were not
+ * registered themselves, like the implementation classes of a manipulator
+ * interface, are resolved to the closest registered supertype once and
+ * cached afterwards. The table is meant to be filled once and read many
+ * times, {@link #put(Class, Object)} copies the arrays and drops all cached
+ * resolutions.</p>
+ *
+ * @param <V> The type of the values
+ */
+public final class ClassDispatchTable<V> {
+
+    private static final Object NONE = new Object();
+
+    private volatile Entries entries;
+    private final ConcurrentMap<Class<?>, Object> resolved = new MapMaker().weakKeys().concurrencyLevel(4).makeMap();
+
+    public ClassDispatchTable(Map<? extends Class<?>, ? extends V> entries) {
+        this.entries = new Entries(entries);
+    }
+
+    /**
+     * Registers a value for the given class, replacing the value it had
+     * before. Classes that were resolved to a supertype are resolved again.
+     *
+     * @param type The class
+     * @param value The value
+     */
+    public synchronized void put(Class<?> type, V value) {
+        Map<Class<?>, Object> entries = this.entries.toMap();
+        entries.put(checkNotNull(type), checkNotNull(value));
+        this.entries = new Entries(entries);
+        this.resolved.clear();
+    }
+
+    /**
+     * Gets the value registered for the given class or, if there is none, for
+     * the closest of its supertypes.
+     *
+     * @param type The class
+     * @return The value, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V get(Class<?> type) {
+        Entries entries = this.entries;
+        Object value = entries.lookup(type);
+        if (value == null) {
+            value = this.resolved.get(type);
+            if (value == null) {
+                value = resolve(entries, type);
+                this.resolved.put(type, value);
+                if (this.entries != entries) {
+                    // Resolved against entries that were replaced in the meantime
+                    this.resolved.remove(type, value);
+                }
+            }
+            if (value == NONE) {
+                return null;
+            }
+        }
+        return (V) value;
+    }
+
+    /**
+     * Gets whether the value of the given unregistered class has been
+     * resolved and cached, including the absence of a value.
+     *
+     * @param type The class
+     * @return Whether the class is resolved
+     */
+    boolean isResolved(Class<?> type) {
+        return this.resolved.containsKey(type);
+    }
+
+    private static Object resolve(Entries entries, Class<?> type) {
+        // Breadth first, so that the most specific supertype wins
+        Set<Class<?>> visited = Collections.newSetFromMap(new IdentityHashMap<Class<?>, Boolean>());
+        Queue<Class<?>> queue = new ArrayDeque<Class<?>>();
+        queue.add(type);
+        Class<?> current;
+        while ((current = queue.poll()) != null) {
+            if (!visited.add(current)) {
+                continue;
+            }
+            Object value = entries.lookup(current);
+            if (value != null) {
+                return value;
+            }
+            if (current.getSuperclass() != null) {
+                queue.add(current.getSuperclass());
+            }
+            Collections.addAll(queue, current.getInterfaces());
+        }
+        return NONE;
+    }
+
+    private static final class Entries {
+
+        private final Class<?>[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        Entries(Map<? extends Class<?>, ?> entries) {
+            int capacity = 16;
+            while (capacity < entries.size() * 2) {
+                capacity <<= 1;
+            }
+            this.keys = new Class<?>[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            for (Map.Entry<? extends Class<?>, ?> entry : entries.entrySet()) {
+                int index = index(entry.getKey());
+                while (this.keys[index] != null) {
+                    index = (index + 1) & this.mask;
+                }
+                this.keys[index] = entry.getKey();
+                this.values[index] = entry.getValue();
+            }
+        }
+
+        private int index(Class<?> type) {
+            int hash = System.identityHashCode(type);
+            return (hash ^ (hash >>> 16)) & this.mask;
+        }
+
+        @Nullable
+        Object lookup(Class<?> type) {
+            int index = index(type);
+            Class<?> key;
+            while ((key = this.keys[index]) != null) {
+                if (key == type) {
+                    return this.values[index];
+                }
+                index = (index + 1) & this.mask;
+            }
+            return null;
+        }
+
+        Map<Class<?>, Object> toMap() {
+            Map<Class<?>, Object> map = new IdentityHashMap<Class<?>, Object>();
+            for (int i = 0; i < this.keys.length; i++) {
+                if (this.keys[i] != null) {
+                    map.put(this.keys[i], this.values[i]);
+                }
+            }
+            return map;
+        }
+    }
+
+}
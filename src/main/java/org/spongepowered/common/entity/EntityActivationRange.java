@@ -0,0 +1,254 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.IProjectile;
+import net.minecraft.entity.boss.EntityDragon;
+import net.minecraft.entity.boss.EntityWither;
+import net.minecraft.entity.effect.EntityWeatherEffect;
+import net.minecraft.entity.item.EntityEnderCrystal;
+import net.minecraft.entity.item.EntityFallingBlock;
+import net.minecraft.entity.item.EntityFireworkRocket;
+import net.minecraft.entity.item.EntityTNTPrimed;
+import net.minecraft.entity.monster.IMob;
+import net.minecraft.entity.passive.EntityAmbientCreature;
+import net.minecraft.entity.passive.EntityAnimal;
+import net.minecraft.entity.passive.EntityVillager;
+import net.minecraft.entity.passive.EntityWaterMob;
+import net.minecraft.entity.passive.IAnimals;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.projectile.EntityFireball;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.Sponge;
+import org.spongepowered.common.configuration.SpongeConfigSnapshot;
+import org.spongepowered.common.interfaces.IMixinEntity;
+import org.spongepowered.common.util.SpongeHooks;
+
+/**
+ * Decides which entities receive a full tick. Entities further than the
+ * activation range of their type from every player only receive an inactive
+ * tick, except for a full tick every {@link #INACTIVE_WAKE_UP_INTERVAL} ticks.
+ */
+public final class EntityActivationRange {
+
+    public static final byte MONSTER = 1;
+    public static final byte CREATURE = 2;
+    public static final byte AQUATIC = 3;
+    public static final byte AMBIENT = 4;
+    public static final byte MISC = 5;
+
+    private static final int INACTIVE_WAKE_UP_INTERVAL = 20;
+
+    public static boolean isEnabled() {
+        return Sponge.getGlobalConfig().getConfig().getModules().usePluginEntityActivation();
+    }
+
+    public static byte initializeEntityActivationType(Entity entity) {
+        if (entity instanceof EntityWaterMob) {
+            return AQUATIC;
+        } else if (entity instanceof EntityAmbientCreature) {
+            return AMBIENT;
+        } else if (entity instanceof IMob) {
+            return MONSTER;
+        } else if (entity instanceof IAnimals) {
+            return CREATURE;
+        }
+        return MISC;
+    }
+
+    public static boolean initializeEntityActivationState(Entity entity, World world) {
+        if (world == null || world.isRemote) {
+            return true;
+        }
+        if (entity instanceof EntityPlayer || entity instanceof IProjectile || entity instanceof EntityFireball
+                || entity instanceof EntityDragon || entity instanceof EntityWither || entity instanceof EntityWeatherEffect
+                || entity instanceof EntityTNTPrimed || entity instanceof EntityFallingBlock || entity instanceof EntityEnderCrystal
+                || entity instanceof EntityFireworkRocket) {
+            return true;
+        }
+        return getActivationRange(SpongeHooks.getActiveConfigSnapshot(world), ((IMixinEntity) entity).getActivationType()) <= 0;
+    }
+
+    private static int getActivationRange(SpongeConfigSnapshot ranges, byte activationType) {
+        switch (activationType) {
+            case MONSTER:
+                return ranges.getMonsterActivationRange();
+            case CREATURE:
+                return ranges.getCreatureActivationRange();
+            case AQUATIC:
+                return ranges.getAquaticActivationRange();
+            case AMBIENT:
+                return ranges.getAmbientActivationRange();
+            default:
+                return ranges.getMiscActivationRange();
+        }
+    }
+
+    /**
+     * Marks every entity within the activation range of a player as active
+     * for the current tick of the world.
+     *
+     * @param world The world about to update its entities
+     */
+    public static void activateEntities(World world) {
+        SpongeConfigSnapshot ranges = SpongeHooks.getActiveConfigSnapshot(world);
+        int maxRange = Math.max(Math.max(ranges.getMonsterActivationRange(), ranges.getCreatureActivationRange()),
+                Math.max(Math.max(ranges.getAquaticActivationRange(), ranges.getAmbientActivationRange()), ranges.getMiscActivationRange()));
+        long currentTick = world.getTotalWorldTime();
+
+        for (Object object : world.playerEntities) {
+            EntityPlayer player = (EntityPlayer) object;
+            ((IMixinEntity) player).setActivatedTick(currentTick);
+            int minChunkX = MathHelper.floor_double(player.posX - maxRange) >> 4;
+            int maxChunkX = MathHelper.floor_double(player.posX + maxRange) >> 4;
+            int minChunkZ = MathHelper.floor_double(player.posZ - maxRange) >> 4;
+            int maxChunkZ = MathHelper.floor_double(player.posZ + maxRange) >> 4;
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    if (world.getChunkProvider().chunkExists(chunkX, chunkZ)) {
+                        activateChunkEntities(player, world.getChunkFromChunkCoords(chunkX, chunkZ), ranges, currentTick);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void activateChunkEntities(EntityPlayer player, Chunk chunk, SpongeConfigSnapshot ranges, long currentTick) {
+        for (Iterable<?> section : chunk.getEntityLists()) {
+            for (Object object : section) {
+                Entity entity = (Entity) object;
+                IMixinEntity spongeEntity = (IMixinEntity) entity;
+                if (spongeEntity.getActivatedTick() >= currentTick) {
+                    continue;
+                }
+                if (spongeEntity.getDefaultActivationState()) {
+                    spongeEntity.setActivatedTick(currentTick);
+                    continue;
+                }
+                int range = getActivationRange(ranges, spongeEntity.getActivationType());
+                if (Math.abs(entity.posX - player.posX) <= range && Math.abs(entity.posZ - player.posZ) <= range) {
+                    spongeEntity.setActivatedTick(currentTick);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether the entity has to receive a full tick.
+     *
+     * @param entity The entity about to be updated
+     * @return True if the entity is active
+     */
+    public static boolean checkIfActive(Entity entity) {
+        IMixinEntity spongeEntity = (IMixinEntity) entity;
+        if (!entity.addedToChunk || spongeEntity.getDefaultActivationState()) {
+            return true;
+        }
+
+        long currentTick = entity.worldObj.getTotalWorldTime();
+        if (spongeEntity.getActivatedTick() >= currentTick) {
+            return true;
+        }
+        if ((currentTick - spongeEntity.getActivatedTick() - 1) % INACTIVE_WAKE_UP_INTERVAL == 0) {
+            // Inactive entities still get a full tick now and then, which is
+            // also when they get a chance to stay awake
+            if (checkEntityImmunities(entity)) {
+                spongeEntity.setActivatedTick(currentTick + INACTIVE_WAKE_UP_INTERVAL);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Keeps an entity active for the given number of ticks, regardless of its
+     * distance to players.
+     *
+     * @param entity The entity to wake up
+     * @param ticks The number of ticks to keep it active
+     */
+    public static void wakeUp(Entity entity, int ticks) {
+        if (entity.worldObj == null || entity.worldObj.isRemote) {
+            return;
+        }
+        IMixinEntity spongeEntity = (IMixinEntity) entity;
+        long activeUntil = entity.worldObj.getTotalWorldTime() + ticks;
+        if (spongeEntity.getActivatedTick() < activeUntil) {
+            spongeEntity.setActivatedTick(activeUntil);
+        }
+    }
+
+    /**
+     * Runs the reduced tick of an entity that is not active.
+     *
+     * @param entity The inactive entity
+     */
+    public static void inactiveTick(Entity entity) {
+        entity.lastTickPosX = entity.prevPosX = entity.posX;
+        entity.lastTickPosY = entity.prevPosY = entity.posY;
+        entity.lastTickPosZ = entity.prevPosZ = entity.posZ;
+        entity.prevRotationYaw = entity.rotationYaw;
+        entity.prevRotationPitch = entity.rotationPitch;
+        entity.ticksExisted++;
+        ((IMixinEntity) entity).inactiveTick();
+    }
+
+    private static boolean checkEntityImmunities(Entity entity) {
+        if (entity.isInWater() || entity.isBurning()) {
+            return true;
+        }
+        if (!entity.onGround || entity.riddenByEntity != null || entity.ridingEntity != null) {
+            return true;
+        }
+        if (entity instanceof EntityLivingBase) {
+            EntityLivingBase living = (EntityLivingBase) entity;
+            if (living.hurtTime > 0 || !living.getActivePotionEffects().isEmpty()) {
+                return true;
+            }
+            if (entity instanceof EntityLiving && ((EntityLiving) entity).getAttackTarget() != null) {
+                return true;
+            }
+            if (entity instanceof EntityVillager && ((EntityVillager) entity).isMating()) {
+                return true;
+            }
+            if (entity instanceof EntityAnimal) {
+                EntityAnimal animal = (EntityAnimal) entity;
+                if (animal.isChild() || animal.isInLove()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private EntityActivationRange() {
+    }
+
+}
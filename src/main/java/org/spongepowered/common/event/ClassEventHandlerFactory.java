@@ -29,26 +29,40 @@
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.BIPUSH;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
 import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.SIPUSH;
 import static org.objectweb.asm.Opcodes.V1_6;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventHandler;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
-public final class ClassEventHandlerFactory implements AnnotatedEventHandler.Factory {
+public final class ClassEventHandlerFactory implements AnnotatedEventHandler.Factory, EventDispatcher.Factory {
 
     private final AtomicInteger id = new AtomicInteger();
     private final LocalClassLoader classLoader = new LocalClassLoader(getClass().getClassLoader());
@@ -129,6 +143,114 @@ private static byte[] generateClass(String name, Class<?> handle, Method method,
         return cw.toByteArray();
     }
 
+    @Override
+    public EventDispatcher create(Class<?> eventClass, List<RegisteredHandler<?>> handlers) throws Exception {
+        String name = this.targetPackage + eventClass.getSimpleName() + "Dispatcher" + this.id.incrementAndGet();
+        boolean cancellable = Cancellable.class.isAssignableFrom(eventClass);
+
+        // Every dispatcher gets its own class loader so it can be unloaded once its handler cache is dropped
+        Class<? extends EventDispatcher> dispatcherClass = new LocalClassLoader(this.classLoader)
+                .defineClass(name, generateDispatcher(name, handlers, cancellable));
+        return dispatcherClass.getConstructor(RegisteredHandler[].class)
+                .newInstance(new Object[] {handlers.toArray(new RegisteredHandler<?>[handlers.size()])});
+    }
+
+    private static final String BASE_DISPATCHER = Type.getInternalName(EventDispatcher.class);
+    private static final String HANDLER_NAME = Type.getInternalName(EventHandler.class);
+    private static final String HANDLER_DESCRIPTOR = Type.getDescriptor(EventHandler.class);
+    private static final String CANCELLABLE_NAME = Type.getInternalName(Cancellable.class);
+    private static final String DISPATCHER_CONSTRUCTOR_DESCRIPTOR = '(' + Type.getDescriptor(RegisteredHandler[].class) + ")V";
+    private static final String HANDLE_EXCEPTION_DESCRIPTOR = "(I" + Type.getDescriptor(Event.class) + "Ljava/lang/Throwable;)V";
+
+    /**
+     * Generates a dispatcher that calls each handler from a separate call site,
+     * so the JIT can inline each of them. Cancellation checks are only emitted
+     * for handlers that ignore cancelled events, and only if the event type is
+     * cancellable.
+     */
+    private static byte[] generateDispatcher(String name, List<RegisteredHandler<?>> handlers, boolean cancellable) {
+        name = name.replace('.', '/');
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, BASE_DISPATCHER, null);
+
+        for (int i = 0; i < handlers.size(); i++) {
+            cw.visitField(ACC_PRIVATE + ACC_FINAL, "handler" + i, HANDLER_DESCRIPTOR, null, null).visitEnd();
+        }
+
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", DISPATCHER_CONSTRUCTOR_DESCRIPTOR, null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESPECIAL, BASE_DISPATCHER, "<init>", DISPATCHER_CONSTRUCTOR_DESCRIPTOR, false);
+            for (int i = 0; i < handlers.size(); i++) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, BASE_DISPATCHER, "targets", '[' + HANDLER_DESCRIPTOR);
+                pushInt(mv, i);
+                mv.visitInsn(AALOAD);
+                mv.visitFieldInsn(PUTFIELD, name, "handler" + i, HANDLER_DESCRIPTOR);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "dispatch", HANDLE_METHOD_DESCRIPTOR, null, null);
+            mv.visitCode();
+            for (int i = 0; i < handlers.size(); i++) {
+                Label start = new Label();
+                Label end = new Label();
+                Label error = new Label();
+                Label next = new Label();
+                mv.visitTryCatchBlock(start, end, error, "java/lang/Throwable");
+
+                mv.visitLabel(start);
+                if (cancellable && handlers.get(i).isIgnoreCancelled()) {
+                    mv.visitVarInsn(ALOAD, 1);
+                    mv.visitTypeInsn(CHECKCAST, CANCELLABLE_NAME);
+                    mv.visitMethodInsn(INVOKEINTERFACE, CANCELLABLE_NAME, "isCancelled", "()Z", true);
+                    mv.visitJumpInsn(IFNE, next);
+                }
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, name, "handler" + i, HANDLER_DESCRIPTOR);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitMethodInsn(INVOKEINTERFACE, HANDLER_NAME, "handle", HANDLE_METHOD_DESCRIPTOR, true);
+                mv.visitLabel(end);
+                mv.visitJumpInsn(GOTO, next);
+
+                mv.visitLabel(error);
+                mv.visitVarInsn(ASTORE, 2);
+                mv.visitVarInsn(ALOAD, 0);
+                pushInt(mv, i);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitMethodInsn(INVOKEVIRTUAL, BASE_DISPATCHER, "handleException", HANDLE_EXCEPTION_DESCRIPTOR, false);
+
+                mv.visitLabel(next);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    private static void pushInt(MethodVisitor mv, int value) {
+        if (value <= 5) {
+            mv.visitInsn(ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(BIPUSH, value);
+        } else {
+            mv.visitIntInsn(SIPUSH, value);
+        }
+    }
+
     private static class LocalClassLoader extends ClassLoader {
 
         private LocalClassLoader(ClassLoader parent) {
@@ -0,0 +1,63 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventHandler;
+import org.spongepowered.common.Sponge;
+
+import java.util.List;
+
+/**
+ * Calls all handlers of a baked {@link RegisteredHandler.Cache} in order.
+ * Implementations are generated for busy event types so every handler is
+ * called from its own call site.
+ */
+public abstract class EventDispatcher {
+
+    private final RegisteredHandler<?>[] handlers;
+    protected final EventHandler<?>[] targets;
+
+    protected EventDispatcher(RegisteredHandler<?>[] handlers) {
+        this.handlers = handlers;
+        this.targets = new EventHandler<?>[handlers.length];
+        for (int i = 0; i < handlers.length; i++) {
+            this.targets[i] = handlers[i].getHandler();
+        }
+    }
+
+    public abstract void dispatch(Event event);
+
+    protected final void handleException(int index, Event event, Throwable e) {
+        Sponge.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), this.handlers[index].getPlugin(), e);
+    }
+
+    interface Factory {
+
+        EventDispatcher create(Class<?> eventClass, List<RegisteredHandler<?>> handlers) throws Exception;
+
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Call counts, times and exception counts of a {@link RegisteredHandler}.
+ *
+ * <p>The counters are striped by thread and padded to separate cache lines,
+ * so handlers called from many threads don't contend and recording a call
+ * never allocates. Only every {@link #getSampleInterval() n-th} call is timed,
+ * the total time is extrapolated from the sampled calls.</p>
+ */
+public final class HandlerTimings {
+
+    private static final int STRIPES = 16;
+    // Spread each stripe over a 64 byte cache line
+    private static final int PADDING = 8;
+
+    private static final int CALLS = 0;
+    private static final int SAMPLES = 1;
+    private static final int TIME = 2;
+    private static final int EXCEPTIONS = 3;
+
+    private static volatile boolean enabled;
+    private static volatile int sampleInterval = 1;
+
+    private final AtomicLongArray counters = new AtomicLongArray(STRIPES * PADDING);
+    private final AtomicLong maxTime = new AtomicLong();
+
+    /**
+     * Gets whether handler timings are recorded. Generated event dispatchers
+     * don't record timings, so they are not used while this is enabled.
+     *
+     * @return Whether timings are enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        HandlerTimings.enabled = enabled;
+    }
+
+    public static int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    public static void setSampleInterval(int sampleInterval) {
+        HandlerTimings.sampleInterval = Math.max(1, sampleInterval);
+    }
+
+    private static int stripe() {
+        return ((int) Thread.currentThread().getId() & (STRIPES - 1)) * PADDING;
+    }
+
+    /**
+     * Records a call of the handler.
+     *
+     * @return Whether this call should be timed
+     */
+    boolean recordCall() {
+        int stripe = stripe();
+        long calls = this.counters.incrementAndGet(stripe + CALLS);
+        return sampleInterval == 1 || calls % sampleInterval == 0;
+    }
+
+    void recordTime(long nanos) {
+        int stripe = stripe();
+        this.counters.incrementAndGet(stripe + SAMPLES);
+        this.counters.addAndGet(stripe + TIME, nanos);
+
+        long max = this.maxTime.get();
+        while (nanos > max && !this.maxTime.compareAndSet(max, nanos)) {
+            max = this.maxTime.get();
+        }
+    }
+
+    void recordException() {
+        this.counters.incrementAndGet(stripe() + EXCEPTIONS);
+    }
+
+    private long sum(int counter) {
+        long sum = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            sum += this.counters.get(i * PADDING + counter);
+        }
+        return sum;
+    }
+
+    public long getCalls() {
+        return sum(CALLS);
+    }
+
+    public long getExceptions() {
+        return sum(EXCEPTIONS);
+    }
+
+    /**
+     * Gets the total time spent in the handler in nanoseconds, extrapolated
+     * from the timed calls.
+     *
+     * @return The total time
+     */
+    public long getTotalTime() {
+        long samples = sum(SAMPLES);
+        if (samples == 0) {
+            return 0;
+        }
+        return (long) (sum(TIME) * ((double) getCalls() / samples));
+    }
+
+    public long getMaxTime() {
+        return this.maxTime.get();
+    }
+
+    public void reset() {
+        for (int i = 0; i < this.counters.length(); i++) {
+            this.counters.set(i, 0);
+        }
+        this.maxTime.set(0);
+    }
+
+}
@@ -47,13 +47,18 @@
     private final EventHandler<? super T> handler;
 
     private final boolean ignoreCancelled;
+    private final boolean threadSafe;
 
-    RegisteredHandler(PluginContainer plugin, Class<T> eventClass, Order order, EventHandler<? super T> handler, boolean ignoreCancelled) {
+    private final HandlerTimings timings = new HandlerTimings();
+
+    RegisteredHandler(PluginContainer plugin, Class<T> eventClass, Order order, EventHandler<? super T> handler, boolean ignoreCancelled,
+            boolean threadSafe) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventClass = checkNotNull(eventClass, "eventClass");
         this.order = checkNotNull(order, "order");
         this.handler = checkNotNull(handler, "handler");
         this.ignoreCancelled = ignoreCancelled;
+        this.threadSafe = threadSafe;
     }
 
     public PluginContainer getPlugin() {
@@ -68,6 +73,28 @@ public Order getOrder() {
         return this.order;
     }
 
+    /**
+     * Gets whether the plugin declared this handler safe to be called from
+     * other threads than the main thread.
+     *
+     * @return Whether the handler is thread-safe
+     */
+    public boolean isThreadSafe() {
+        return this.threadSafe;
+    }
+
+    public HandlerTimings getTimings() {
+        return this.timings;
+    }
+
+    EventHandler<? super T> getHandler() {
+        return this.handler;
+    }
+
+    boolean isIgnoreCancelled() {
+        return this.ignoreCancelled;
+    }
+
     @Override
     public Object getHandle() {
         if (this.handler instanceof SpongeEventHandler) {
@@ -83,7 +110,23 @@ public void handle(T event) throws Exception {
             return;
         }
 
-        this.handler.handle(event);
+        if (!HandlerTimings.isEnabled()) {
+            this.handler.handle(event);
+            return;
+        }
+
+        boolean timed = this.timings.recordCall();
+        long start = timed ? System.nanoTime() : 0L;
+        try {
+            this.handler.handle(event);
+        } catch (Exception e) {
+            this.timings.recordException();
+            throw e;
+        } finally {
+            if (timed) {
+                this.timings.recordTime(System.nanoTime() - start);
+            }
+        }
     }
 
     @Override
@@ -96,6 +139,10 @@ public static final class Cache {
         private final List<RegisteredHandler<?>> handlers;
         private final EnumMap<Order, List<RegisteredHandler<?>>> handlersByOrder;
 
+        private volatile EventDispatcher dispatcher;
+        private boolean dispatcherRequested;
+        private int posts;
+
         private static final Order[] ORDERS = Order.values();
 
         Cache(List<RegisteredHandler<?>> handlers) {
@@ -118,6 +165,28 @@ public List<RegisteredHandler<?>> getHandlersByOrder(Order order) {
             return this.handlersByOrder.get(checkNotNull(order, "order"));
         }
 
+        EventDispatcher getDispatcher() {
+            return this.dispatcher;
+        }
+
+        void setDispatcher(EventDispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+        }
+
+        /**
+         * Counts a post that went through the handler list and returns whether
+         * a dispatcher should be generated for these handlers now. The counter
+         * is not synchronized, generating a dispatcher twice is harmless.
+         */
+        boolean requestDispatcher(int threshold) {
+            if (this.dispatcherRequested || ++this.posts < threshold) {
+                return false;
+            }
+
+            this.dispatcherRequested = true;
+            return true;
+        }
+
     }
 
 }
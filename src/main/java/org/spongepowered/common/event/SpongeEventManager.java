@@ -32,10 +32,16 @@
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
-import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Sets;
 import com.google.common.reflect.TypeToken;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventHandler;
@@ -45,35 +51,65 @@
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.api.service.event.EventManager;
 import org.spongepowered.common.Sponge;
+import org.spongepowered.common.service.scheduler.SpongeScheduler;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 @Singleton
 public class SpongeEventManager implements EventManager {
 
-    private final Object lock = new Object();
-
     private final PluginManager pluginManager;
-    private final AnnotatedEventHandler.Factory handlerFactory = new ClassEventHandlerFactory("org.spongepowered.common.event.handler");
-    private final Multimap<Class<?>, RegisteredHandler<?>> handlersByEvent = HashMultimap.create();
+    private final ClassEventHandlerFactory handlerFactory = new ClassEventHandlerFactory("org.spongepowered.common.event.handler");
+
+    /**
+     * The number of posts through the handler list before a dispatcher is
+     * generated for an event type. Handlers of rarely posted events don't need
+     * a class of their own.
+     */
+    private static final int DISPATCHER_THRESHOLD = 100;
 
     /**
-     * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or removed.</p>
+     * Handler lists larger than this always use the handler list, the
+     * generated method would get too large to be compiled by the JIT.
      */
-    private final LoadingCache<Class<? extends Event>, RegisteredHandler.Cache> handlersCache =
-            CacheBuilder.newBuilder().build(new CacheLoader<Class<? extends Event>, RegisteredHandler.Cache>() {
+    private static final int MAX_DISPATCHER_HANDLERS = 256;
+
+    /**
+     * The current handler index. It is never modified, registrations build a
+     * new index and swap it in atomically so posting never takes a lock.
+     */
+    private final AtomicReference<HandlerIndex> index = new AtomicReference<HandlerIndex>(HandlerIndex.EMPTY);
+
+    private volatile Executor asyncExecutor;
+
+    /**
+     * A cache of the event supertypes of an event class. Class hierarchies
+     * never change at runtime, so this is never invalidated.
+     */
+    private final LoadingCache<Class<?>, Set<Class<?>>> eventTypes =
+            CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<Class<?>, Set<Class<?>>>() {
                 @Override
-                public RegisteredHandler.Cache load(Class<? extends Event> eventClass) throws Exception {
-                    return bakeHandlers(eventClass);
+                public Set<Class<?>> load(Class<?> eventClass) throws Exception {
+                    ImmutableSet.Builder<Class<?>> types = ImmutableSet.builder();
+                    for (Class<?> type : TypeToken.of(eventClass).getTypes().rawTypes()) {
+                        if (Event.class.isAssignableFrom(type)) {
+                            types.add(type);
+                        }
+                    }
+                    return types.build();
                 }
             });
 
@@ -82,23 +118,35 @@ public SpongeEventManager(PluginManager pluginManager) {
         this.pluginManager = checkNotNull(pluginManager, "pluginManager");
     }
 
-    private RegisteredHandler.Cache bakeHandlers(Class<?> rootEvent) {
+    private RegisteredHandler.Cache bakeHandlers(Multimap<Class<?>, RegisteredHandler<?>> handlersByEvent, Class<?> rootEvent) {
         List<RegisteredHandler<?>> handlers = Lists.newArrayList();
-        @SuppressWarnings({"unchecked", "rawtypes"})
-        Set<Class<?>> types = (Set) TypeToken.of(rootEvent).getTypes().rawTypes();
-
-        synchronized (this.lock) {
-            for (Class<?> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    handlers.addAll(this.handlersByEvent.get(type));
-                }
-            }
+        for (Class<?> type : this.eventTypes.getUnchecked(rootEvent)) {
+            handlers.addAll(handlersByEvent.get(type));
         }
 
         Collections.sort(handlers);
         return new RegisteredHandler.Cache(handlers);
     }
 
+    /**
+     * Creates a new index with the given handlers. Only the baked caches of event
+     * types that are a subtype of one of the changed event classes are affected,
+     * and they are baked again right away so posting does not hit a cold cache.
+     */
+    private HandlerIndex updateIndex(HandlerIndex current, ImmutableSetMultimap<Class<?>, RegisteredHandler<?>> handlersByEvent,
+            Set<Class<?>> changed) {
+        ImmutableMap.Builder<Class<?>, RegisteredHandler.Cache> caches = ImmutableMap.builder();
+        for (Map.Entry<Class<?>, RegisteredHandler.Cache> entry : current.caches.entrySet()) {
+            if (Collections.disjoint(this.eventTypes.getUnchecked(entry.getKey()), changed)) {
+                caches.put(entry);
+            } else {
+                caches.put(entry.getKey(), bakeHandlers(handlersByEvent, entry.getKey()));
+            }
+        }
+
+        return new HandlerIndex(handlersByEvent, caches.build());
+    }
+
     private static boolean isValidHandler(Method method) {
         int modifiers = method.getModifiers();
         if (Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers) || Modifier.isAbstract(modifiers)
@@ -116,22 +164,34 @@ private void register(RegisteredHandler<?> handler) {
     }
 
     private void register(List<RegisteredHandler<?>> handlers) {
-        synchronized (this.lock) {
-            boolean changed = false;
-
-            for (RegisteredHandler handler : handlers) {
-                if (this.handlersByEvent.put(handler.getEventClass(), handler)) {
-                    changed = true;
+        HandlerIndex current;
+        HandlerIndex updated;
+        do {
+            current = this.index.get();
+            Set<Class<?>> changed = Sets.newHashSet();
+            ImmutableSetMultimap.Builder<Class<?>, RegisteredHandler<?>> builder = ImmutableSetMultimap.builder();
+            builder.putAll(current.handlersByEvent);
+
+            for (RegisteredHandler<?> handler : handlers) {
+                if (!current.handlersByEvent.containsEntry(handler.getEventClass(), handler)) {
+                    builder.put(handler.getEventClass(), handler);
+                    changed.add(handler.getEventClass());
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            if (changed.isEmpty()) {
+                return;
             }
-        }
+
+            updated = updateIndex(current, builder.build(), changed);
+        } while (!this.index.compareAndSet(current, updated));
     }
 
     public void register(PluginContainer plugin, Object listener) {
+        register(plugin, listener, false);
+    }
+
+    public void register(PluginContainer plugin, Object listener, boolean threadSafe) {
         checkNotNull(plugin, "plugin");
         checkNotNull(listener, "listener");
 
@@ -152,7 +212,7 @@ public void register(PluginContainer plugin, Object listener) {
                         continue;
                     }
 
-                    handlers.add(createRegistration(plugin, eventClass, subscribe, handler));
+                    handlers.add(createRegistration(plugin, eventClass, subscribe, threadSafe, handler));
                 } else {
                     Sponge.getLogger().warn("The method {} on {} has @{} but has the wrong signature", method, handle.getName(),
                             Subscribe.class.getName());
@@ -164,13 +224,13 @@ public void register(PluginContainer plugin, Object listener) {
     }
 
     private static <T extends Event> RegisteredHandler<T> createRegistration(PluginContainer plugin, Class<T> eventClass, Subscribe subscribe,
-            EventHandler<? super T> handler) {
-        return createRegistration(plugin, eventClass, subscribe.order(), subscribe.ignoreCancelled(), handler);
+            boolean threadSafe, EventHandler<? super T> handler) {
+        return createRegistration(plugin, eventClass, subscribe.order(), subscribe.ignoreCancelled(), threadSafe, handler);
     }
 
     private static <T extends Event> RegisteredHandler<T> createRegistration(PluginContainer plugin, Class<T> eventClass, Order order,
-            boolean ignoreCancelled, EventHandler<? super T> handler) {
-        return new RegisteredHandler<T>(plugin, eventClass, order, handler, ignoreCancelled);
+            boolean ignoreCancelled, boolean threadSafe, EventHandler<? super T> handler) {
+        return new RegisteredHandler<T>(plugin, eventClass, order, handler, ignoreCancelled, threadSafe);
     }
 
     private PluginContainer getPlugin(Object plugin) {
@@ -191,26 +251,58 @@ public <T extends Event> void register(Object plugin, Class<T> eventClass, Event
 
     @Override
     public <T extends Event> void register(Object plugin, Class<T> eventClass, Order order, EventHandler<? super T> handler) {
-        register(createRegistration(getPlugin(plugin), eventClass, order, false, handler));
+        register(plugin, eventClass, order, false, handler);
+    }
+
+    /**
+     * Registers all handlers of the listener. Thread-safe handlers may be
+     * called from other threads than the main thread by {@link #postAsync}.
+     *
+     * @param plugin The plugin instance
+     * @param listener The listener
+     * @param threadSafe Whether the handlers of the listener are thread-safe
+     */
+    public void register(Object plugin, Object listener, boolean threadSafe) {
+        register(getPlugin(plugin), listener, threadSafe);
+    }
+
+    /**
+     * Registers a handler. Thread-safe handlers may be called from other
+     * threads than the main thread by {@link #postAsync}.
+     *
+     * @param plugin The plugin instance
+     * @param eventClass The event type
+     * @param order The order of the handler
+     * @param threadSafe Whether the handler is thread-safe
+     * @param handler The handler
+     * @param <T> The event type
+     */
+    public <T extends Event> void register(Object plugin, Class<T> eventClass, Order order, boolean threadSafe, EventHandler<? super T> handler) {
+        register(createRegistration(getPlugin(plugin), eventClass, order, false, threadSafe, handler));
     }
 
     private void unregister(Predicate<RegisteredHandler<?>> unregister) {
-        synchronized (this.lock) {
-            boolean changed = false;
-
-            Iterator<RegisteredHandler<?>> itr = this.handlersByEvent.values().iterator();
-            while (itr.hasNext()) {
-                RegisteredHandler<?> handler = itr.next();
-                if (unregister.apply(handler)) {
-                    itr.remove();
-                    changed = true;
+        HandlerIndex current;
+        HandlerIndex updated;
+        do {
+            current = this.index.get();
+            Set<Class<?>> changed = Sets.newHashSet();
+            ImmutableSetMultimap.Builder<Class<?>, RegisteredHandler<?>> builder = ImmutableSetMultimap.builder();
+
+            for (Map.Entry<Class<?>, RegisteredHandler<?>> entry : current.handlersByEvent.entries()) {
+                if (unregister.apply(entry.getValue())) {
+                    changed.add(entry.getKey());
+                } else {
+                    builder.put(entry);
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            if (changed.isEmpty()) {
+                return;
             }
-        }
+
+            updated = updateIndex(current, builder.build(), changed);
+        } while (!this.index.compareAndSet(current, updated));
     }
 
     @Override
@@ -238,7 +330,57 @@ public boolean apply(RegisteredHandler<?> handler) {
     }
 
     protected RegisteredHandler.Cache getHandlerCache(Event event) {
-        return this.handlersCache.getUnchecked(checkNotNull(event, "event").getClass());
+        return getHandlerCache(checkNotNull(event, "event").getClass());
+    }
+
+    private RegisteredHandler.Cache getHandlerCache(Class<? extends Event> eventClass) {
+        HandlerIndex current = this.index.get();
+        RegisteredHandler.Cache cache = current.caches.get(eventClass);
+        if (cache != null) {
+            return cache;
+        }
+
+        ImmutableSetMultimap<Class<?>, RegisteredHandler<?>> bakedFrom = current.handlersByEvent;
+        cache = bakeHandlers(bakedFrom, eventClass);
+
+        // Publish the baked handlers, retry if another thread swapped the index in the meantime
+        while (!this.index.compareAndSet(current, current.withCache(eventClass, cache))) {
+            current = this.index.get();
+            RegisteredHandler.Cache existing = current.caches.get(eventClass);
+            if (existing != null) {
+                return existing;
+            }
+
+            if (current.handlersByEvent != bakedFrom) {
+                bakedFrom = current.handlersByEvent;
+                cache = bakeHandlers(bakedFrom, eventClass);
+            }
+        }
+
+        return cache;
+    }
+
+    /**
+     * Gets all currently registered handlers.
+     *
+     * @return The registered handlers
+     */
+    public Collection<RegisteredHandler<?>> getRegisteredHandlers() {
+        return this.index.get().handlersByEvent.values();
+    }
+
+    /**
+     * Gets whether any handler would be called for an event of the given type.
+     * Hook sites use this to skip creating events nobody listens to.
+     *
+     * <p>Only handlers for the given type and its supertypes are considered, so
+     * this should be called with the type the posted event is created for.</p>
+     *
+     * @param eventClass The event type
+     * @return Whether there are handlers for the event type
+     */
+    public boolean hasListeners(Class<? extends Event> eventClass) {
+        return !getHandlerCache(checkNotNull(eventClass, "eventClass")).getHandlers().isEmpty();
     }
 
     @SuppressWarnings("unchecked")
@@ -256,11 +398,166 @@ protected static boolean post(Event event, List<RegisteredHandler<?>> handlers)
 
     @Override
     public boolean post(Event event) {
-        return post(event, getHandlerCache(event).getHandlers());
+        RegisteredHandler.Cache cache = getHandlerCache(event);
+        // Timings are recorded by the registered handlers, which dispatchers bypass
+        EventDispatcher dispatcher = HandlerTimings.isEnabled() ? null : getDispatcher(event.getClass(), cache);
+        if (dispatcher == null) {
+            return post(event, cache.getHandlers());
+        }
+
+        dispatcher.dispatch(event);
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    @Nullable
+    private EventDispatcher getDispatcher(Class<? extends Event> eventClass, RegisteredHandler.Cache cache) {
+        EventDispatcher dispatcher = cache.getDispatcher();
+        if (dispatcher == null && cache.requestDispatcher(DISPATCHER_THRESHOLD)) {
+            dispatcher = createDispatcher(eventClass, cache);
+        }
+        return dispatcher;
+    }
+
+    @Nullable
+    private EventDispatcher createDispatcher(Class<? extends Event> eventClass, RegisteredHandler.Cache cache) {
+        List<RegisteredHandler<?>> handlers = cache.getHandlers();
+        if (handlers.isEmpty() || handlers.size() > MAX_DISPATCHER_HANDLERS) {
+            return null;
+        }
+
+        EventDispatcher dispatcher;
+        try {
+            dispatcher = this.handlerFactory.create(eventClass, handlers);
+        } catch (Exception e) {
+            Sponge.getLogger().error("Failed to create dispatcher for {}", eventClass, e);
+            return null;
+        }
+
+        cache.setDispatcher(dispatcher);
+        return dispatcher;
     }
 
     public boolean post(Event event, Order order) {
         return post(event, getHandlerCache(event).getHandlersByOrder(order));
     }
 
+    /**
+     * Posts an event without blocking the calling thread. Handlers are called
+     * in the same order as by {@link #post(Event)}, one after another. Runs of
+     * thread-safe handlers are called on the async event executor, all other
+     * handlers are called on the main thread.
+     *
+     * @param event The event to post
+     * @return A future that completes with whether the event was cancelled
+     *     once all handlers were called
+     */
+    public ListenableFuture<Boolean> postAsync(Event event) {
+        AsyncPost post = new AsyncPost(event, getHandlerCache(event).getHandlers());
+        post.run();
+        return post.future;
+    }
+
+    /**
+     * Sets the executor thread-safe handlers are called on by {@link #postAsync}.
+     *
+     * @param executor The executor
+     */
+    public void setAsyncExecutor(Executor executor) {
+        this.asyncExecutor = checkNotNull(executor, "executor");
+    }
+
+    private Executor getAsyncExecutor() {
+        if (this.asyncExecutor == null) {
+            synchronized (this) {
+                if (this.asyncExecutor == null) {
+                    this.asyncExecutor = Executors.newFixedThreadPool(Sponge.getGlobalConfig().getConfig().getEvents().getAsyncThreads(),
+                            new ThreadFactoryBuilder().setNameFormat("Sponge Async Event Thread #%d").setDaemon(true).build());
+                }
+            }
+        }
+        return this.asyncExecutor;
+    }
+
+    /**
+     * Calls the handlers of an asynchronously posted event. Each step calls
+     * the next run of handlers that are either all thread-safe or all not,
+     * then hands the event over to the executor of the next run.
+     */
+    private final class AsyncPost implements Runnable {
+
+        final SettableFuture<Boolean> future = SettableFuture.create();
+        private final Event event;
+        private final List<RegisteredHandler<?>> handlers;
+        private int index;
+
+        AsyncPost(Event event, List<RegisteredHandler<?>> handlers) {
+            this.event = checkNotNull(event, "event");
+            this.handlers = handlers;
+        }
+
+        @Override
+        public void run() {
+            if (this.index >= this.handlers.size()) {
+                this.future.set(this.event instanceof Cancellable && ((Cancellable) this.event).isCancelled());
+                return;
+            }
+
+            boolean threadSafe = this.handlers.get(this.index).isThreadSafe();
+            int end = this.index + 1;
+            while (end < this.handlers.size() && this.handlers.get(end).isThreadSafe() == threadSafe) {
+                end++;
+            }
+
+            final List<RegisteredHandler<?>> run = this.handlers.subList(this.index, end);
+            this.index = end;
+
+            Runnable step = new Runnable() {
+
+                @Override
+                public void run() {
+                    post(AsyncPost.this.event, run);
+                    AsyncPost.this.run();
+                }
+            };
+
+            try {
+                if (threadSafe) {
+                    getAsyncExecutor().execute(step);
+                } else {
+                    SpongeScheduler.getInstance().getSyncExecutor().execute(step);
+                }
+            } catch (Throwable e) {
+                this.future.setException(e);
+            }
+        }
+
+    }
+
+    /**
+     * An immutable snapshot of all registered handlers and the handlers baked
+     * for each event type that has been posted so far.
+     */
+    private static final class HandlerIndex {
+
+        static final HandlerIndex EMPTY = new HandlerIndex(ImmutableSetMultimap.<Class<?>, RegisteredHandler<?>>of(),
+                ImmutableMap.<Class<?>, RegisteredHandler.Cache>of());
+
+        final ImmutableSetMultimap<Class<?>, RegisteredHandler<?>> handlersByEvent;
+        final ImmutableMap<Class<?>, RegisteredHandler.Cache> caches;
+
+        HandlerIndex(ImmutableSetMultimap<Class<?>, RegisteredHandler<?>> handlersByEvent,
+                ImmutableMap<Class<?>, RegisteredHandler.Cache> caches) {
+            this.handlersByEvent = handlersByEvent;
+            this.caches = caches;
+        }
+
+        HandlerIndex withCache(Class<?> eventClass, RegisteredHandler.Cache cache) {
+            return new HandlerIndex(this.handlersByEvent, ImmutableMap.<Class<?>, RegisteredHandler.Cache>builder()
+                    .putAll(this.caches)
+                    .put(eventClass, cache)
+                    .build());
+        }
+
+    }
+
 }
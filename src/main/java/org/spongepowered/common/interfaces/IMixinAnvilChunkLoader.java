@@ -0,0 +1,67 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.interfaces;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import java.io.IOException;
+
+import javax.annotation.Nullable;
+
+public interface IMixinAnvilChunkLoader {
+
+    /**
+     * Reads the data of a chunk from the pending saves or the region file,
+     * without building the chunk. Safe to call from any thread.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The chunk data, or null if the chunk has not been saved
+     * @throws IOException If the region file couldn't be read
+     */
+    @Nullable
+    NBTTagCompound readChunkData(int x, int z) throws IOException;
+
+    /**
+     * Gets whether the given chunk has been saved, without reading it. Safe
+     * to call from any thread.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return Whether the chunk has been saved
+     */
+    boolean isChunkSaved(int x, int z);
+
+    /**
+     * Sets data that was read in advance for the next load of the given
+     * chunk, instead of reading it again.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param data The chunk data, or null to clear it
+     */
+    void setPrefetchedChunkData(int x, int z, @Nullable NBTTagCompound data);
+
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.interfaces;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.common.util.gen.PaletteBlockBuffer;
+import org.spongepowered.common.world.extent.BlockVisitor;
+
+public interface IMixinExtent {
+
+    /**
+     * Visits every block between the given corners (inclusive), reading the
+     * block storage of each chunk directly.
+     *
+     * @param minX The lowest x coordinate
+     * @param minY The lowest y coordinate
+     * @param minZ The lowest z coordinate
+     * @param maxX The highest x coordinate
+     * @param maxY The highest y coordinate
+     * @param maxZ The highest z coordinate
+     * @param visitor The visitor to pass the blocks to
+     */
+    void forEachBlock(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, BlockVisitor visitor);
+
+    void forEachBlock(Vector3i min, Vector3i max, BlockVisitor visitor);
+
+    /**
+     * Gets the blocks between the given corners (inclusive), indexed by
+     * {@code ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX)}.
+     *
+     * @param min The lowest corner
+     * @param max The highest corner
+     * @return The blocks
+     */
+    BlockState[] getBlocks(Vector3i min, Vector3i max);
+
+    /**
+     * Takes a palette-encoded copy of the blocks between the given corners
+     * (inclusive).
+     *
+     * @param min The lowest corner
+     * @param max The highest corner
+     * @return The copy of the blocks
+     */
+    PaletteBlockBuffer getBlockBuffer(Vector3i min, Vector3i max);
+
+}
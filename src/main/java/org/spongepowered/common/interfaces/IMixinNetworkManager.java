@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.interfaces;
 
+import io.netty.buffer.ByteBuf;
 import org.spongepowered.api.MinecraftVersion;
 
 import java.net.InetSocketAddress;
@@ -39,4 +40,15 @@ public interface IMixinNetworkManager {
     MinecraftVersion getVersion();
 
     void setVersion(int version);
+
+    /**
+     * Writes an already encoded packet, its id followed by its data, to the
+     * channel. The payload is not released, so it can be shared by many
+     * connections.
+     *
+     * @param payload The encoded packet
+     * @return False if the packet could not be written directly and has to be
+     *         sent as a packet instead
+     */
+    boolean sendEncodedPacket(ByteBuf payload);
 }
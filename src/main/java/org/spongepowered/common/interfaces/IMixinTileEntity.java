@@ -49,4 +49,25 @@ public interface IMixinTileEntity {
      * @param compound The SpongeData compound to write to
      */
     void writeToNbt(NBTTagCompound compound);
+
+    /**
+     * Gets the id the tile entity type is registered with, as written to NBT.
+     *
+     * @return The tile entity id, or null for unregistered types
+     */
+    String getTileEntityId();
+
+    /**
+     * Gets whether the tile entity has no work to do on its next update.
+     * Only tile entities that are woken up by a neighbour or their own
+     * inventory changing may be idle, hoppers also pull from the inventory
+     * above them so they never are.
+     *
+     * @return True if the tile entity is idle
+     */
+    boolean isIdle();
+
+    boolean isSleeping();
+
+    void setSleeping(boolean sleeping);
 }
@@ -24,19 +24,74 @@
  */
 package org.spongepowered.common.interfaces;
 
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.spongepowered.api.util.gen.MutableBlockBuffer;
+import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.gen.GeneratorPopulator;
 import org.spongepowered.api.world.gen.Populator;
 import org.spongepowered.common.configuration.SpongeConfig;
+import org.spongepowered.common.configuration.SpongeConfigSnapshot;
 
 public interface IMixinWorld {
 
     SpongeConfig<SpongeConfig.WorldConfig> getWorldConfig();
 
+    /**
+     * Gets the settings of the active config of this world, taken again only
+     * after a config has been reloaded or changed.
+     *
+     * @return The settings snapshot
+     */
+    SpongeConfigSnapshot getActiveConfigSnapshot();
+
     ImmutableList<Populator> getPopulators();
 
     ImmutableList<GeneratorPopulator> getGeneratorPopulators();
 
     void updateWorldGenerator();
 
+    /**
+     * Gets the number of entities that received a full tick during the last
+     * entity update of this world.
+     *
+     * @return The number of active entities
+     */
+    int getActiveEntityCount();
+
+    /**
+     * Gets the number of entities that were outside of their activation range
+     * and only received an inactive tick during the last entity update.
+     *
+     * @return The number of inactive entities
+     */
+    int getInactiveEntityCount();
+
+    /**
+     * Writes all blocks of the buffer into this world, with the lowest
+     * corner of the buffer at the given position. Lighting and client
+     * updates are batched per chunk.
+     *
+     * @param position The position of the lowest corner of the buffer
+     * @param buffer The blocks to write
+     * @param notifyNeighbours Whether to notify the neighbours of the changed
+     *     blocks after all blocks have been written
+     */
+    void setBlocks(Vector3i position, MutableBlockBuffer buffer, boolean notifyNeighbours);
+
+    /**
+     * Loads the chunk at the given chunk coordinates without blocking. The
+     * chunk data is read on an I/O thread and the chunk is added to the
+     * world on the main thread, where the future completes.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param generate Whether to generate the chunk if it does not exist
+     * @return The future chunk, absent if it does not exist and should not
+     *     be generated
+     */
+    ListenableFuture<Optional<Chunk>> loadChunkAsync(int x, int z, boolean generate);
+
 }
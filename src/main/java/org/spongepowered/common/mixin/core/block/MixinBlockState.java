@@ -40,14 +40,17 @@
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
-import org.spongepowered.common.Sponge;
+import org.spongepowered.common.data.BlockStateDataTable;
 import org.spongepowered.common.data.SpongeBlockProcessor;
 import org.spongepowered.common.data.SpongeManipulatorRegistry;
 import org.spongepowered.common.interfaces.block.IMixinBlock;
+import org.spongepowered.common.interfaces.block.IMixinBlockState;
+
+import javax.annotation.Nullable;
 
 @NonnullByDefault
 @Mixin(net.minecraft.block.state.BlockState.StateImplementation.class)
-public abstract class MixinBlockState extends BlockStateBase implements BlockState {
+public abstract class MixinBlockState extends BlockStateBase implements BlockState, IMixinBlockState {
 
     @Shadow
     @SuppressWarnings("rawtypes")
@@ -55,14 +58,29 @@ public abstract class MixinBlockState extends BlockStateBase implements BlockSta
     @Shadow private Block block;
 
     private ImmutableList<DataManipulator<?>> manipulators;
+    @Nullable private BlockStateDataTable dataTable;
 
     @Override
     public BlockType getType() {
         return (BlockType) getBlock();
     }
 
+    @Override
+    @Nullable
+    public BlockStateDataTable getDataTable() {
+        return this.dataTable;
+    }
+
+    @Override
+    public void setDataTable(BlockStateDataTable dataTable) {
+        this.dataTable = dataTable;
+    }
+
     @Override
     public ImmutableCollection<DataManipulator<?>> getManipulators() {
+        if (this.dataTable != null) {
+            return this.dataTable.getManipulators();
+        }
         if (this.manipulators == null) {
             this.manipulators = ((IMixinBlock) this.block).getManipulators(this);
         }
@@ -71,9 +89,16 @@ public ImmutableCollection<DataManipulator<?>> getManipulators() {
 
     @Override
     public <M extends DataManipulator<M>> Optional<M> getManipulator(Class<M> manipulatorClass) {
+        int slot = SpongeManipulatorRegistry.getInstance().getBlockProcessorSlot(manipulatorClass);
+        if (this.dataTable != null && slot != -1) {
+            if (!this.dataTable.holdsData(slot)) {
+                return Optional.absent();
+            }
+            return SpongeManipulatorRegistry.getInstance().getBlockProcessor(manipulatorClass).createFrom(this);
+        }
         for (final DataManipulator<?> manipulator : this.getManipulators()) {
             if (manipulatorClass.isInstance(manipulator)) {
-                return SpongeManipulatorRegistry.getInstance().getBlockUtil(manipulatorClass).get().createFrom(this);
+                return SpongeManipulatorRegistry.getInstance().getBlockProcessor(manipulatorClass).createFrom(this);
             }
         }
         return Optional.absent();
@@ -82,15 +107,31 @@ public <M extends DataManipulator<M>> Optional<M> getManipulator(Class<M> manipu
     @SuppressWarnings("unchecked")
     @Override
     public <M extends DataManipulator<M>> Optional<BlockState> withData(M manipulator) {
-        SpongeBlockProcessor<M> processor = ((SpongeManipulatorRegistry) Sponge.getSpongeRegistry().getManipulatorRegistry()).getBlockUtil((Class<M>) (Class) manipulator.getClass()).get();
+        if (this.dataTable != null) {
+            int slot = SpongeManipulatorRegistry.getInstance().getBlockProcessorSlot(manipulator.getClass());
+            if (slot != -1) {
+                Optional<BlockState> state = this.dataTable.withData(slot, manipulator);
+                if (state != null) {
+                    return state;
+                }
+            }
+        }
+        SpongeBlockProcessor<M> processor = SpongeManipulatorRegistry.getInstance().getBlockProcessor((Class<M>) (Class) manipulator.getClass());
+        if (processor == null) {
+            return Optional.absent();
+        }
         return processor.withData(this, manipulator);
     }
 
     @Override
     public <M extends DataManipulator<M>> Optional<BlockState> withoutData(Class<M> manipulator) {
+        int slot = SpongeManipulatorRegistry.getInstance().getBlockProcessorSlot(manipulator);
+        if (this.dataTable != null && slot != -1) {
+            return this.dataTable.withoutData(slot);
+        }
         for (final DataManipulator<?> manipulator1 : this.getManipulators()) {
             if (manipulator.isInstance(manipulator1)) {
-                return SpongeManipulatorRegistry.getInstance().getBlockUtil(manipulator).get().removeFrom(this);
+                return SpongeManipulatorRegistry.getInstance().getBlockProcessor(manipulator).removeFrom(this);
             }
         }
         return Optional.absent();
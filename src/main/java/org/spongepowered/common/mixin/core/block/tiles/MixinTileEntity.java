@@ -43,16 +43,47 @@
 import org.spongepowered.common.interfaces.IMixinTileEntity;
 import org.spongepowered.common.util.VecHelper;
 
+import java.util.Map;
+
 @NonnullByDefault
 @Mixin(net.minecraft.tileentity.TileEntity.class)
 public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
 
     @Shadow protected boolean tileEntityInvalid;
     @Shadow protected net.minecraft.world.World worldObj;
+    @SuppressWarnings("rawtypes")
+    @Shadow private static Map classToNameMap;
+
+    private boolean sleeping;
 
     @Shadow public abstract void markDirty();
     @Shadow public abstract BlockPos getPos();
 
+    @Inject(method = "markDirty()V", at = @At("HEAD"))
+    public void onMarkDirty(CallbackInfo ci) {
+        this.sleeping = false;
+    }
+
+    @Override
+    public String getTileEntityId() {
+        return (String) classToNameMap.get(this.getClass());
+    }
+
+    @Override
+    public boolean isIdle() {
+        return false;
+    }
+
+    @Override
+    public boolean isSleeping() {
+        return this.sleeping;
+    }
+
+    @Override
+    public void setSleeping(boolean sleeping) {
+        this.sleeping = sleeping;
+    }
+
     @Override
     public Location getBlock() {
         return new Location((World) this.worldObj, VecHelper.toVector(this.getPos()).toDouble());
@@ -26,6 +26,7 @@
 
 import static org.spongepowered.api.data.DataQuery.of;
 
+import net.minecraft.entity.player.EntityPlayer;
 import org.spongepowered.api.block.tileentity.TileEntityType;
 import org.spongepowered.api.block.tileentity.TileEntityTypes;
 import org.spongepowered.api.block.tileentity.carrier.Chest;
@@ -33,18 +34,39 @@
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @NonnullByDefault
 @Mixin(net.minecraft.tileentity.TileEntityChest.class)
 public abstract class MixinTileEntityChest extends MixinTileEntityLockable implements Chest {
 
     @Shadow public String customName;
+    @Shadow public int numPlayersUsing;
+    @Shadow public float lidAngle;
 
     @Override
     public TileEntityType getType() {
         return TileEntityTypes.CHEST;
     }
 
+    @Override
+    public boolean isIdle() {
+        return this.numPlayersUsing == 0 && this.lidAngle == 0.0F;
+    }
+
+    @Inject(method = "openInventory(Lnet/minecraft/entity/player/EntityPlayer;)V", at = @At("HEAD"))
+    public void onOpenInventory(EntityPlayer player, CallbackInfo ci) {
+        // The lid has to move, which only happens on update
+        this.setSleeping(false);
+    }
+
+    @Inject(method = "closeInventory(Lnet/minecraft/entity/player/EntityPlayer;)V", at = @At("HEAD"))
+    public void onCloseInventory(EntityPlayer player, CallbackInfo ci) {
+        this.setSleeping(false);
+    }
+
     @Override
     public DataContainer toContainer() {
         DataContainer container = super.toContainer();
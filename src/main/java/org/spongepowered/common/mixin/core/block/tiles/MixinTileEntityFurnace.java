@@ -45,6 +45,12 @@ public TileEntityType getType() {
         return TileEntityTypes.FURNACE;
     }
 
+    @Override
+    public boolean isIdle() {
+        // Not burning, not cooking and unable to start without new fuel or input
+        return this.getField(0) == 0 && this.getField(2) == 0 && (this.getStackInSlot(0) == null || this.getStackInSlot(1) == null);
+    }
+
     @Override
     public DataContainer toContainer() {
         DataContainer container = super.toContainer();
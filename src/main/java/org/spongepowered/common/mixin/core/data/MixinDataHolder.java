@@ -48,9 +48,9 @@ public abstract class MixinDataHolder implements DataHolder {
 
     @Override
     public <T extends DataManipulator<T>> Optional<T> getData(Class<T> dataClass) {
-        Optional<SpongeDataProcessor<T>> builderOptional = SpongeManipulatorRegistry.getInstance().getUtil(dataClass);
-        if (builderOptional.isPresent()) {
-            return builderOptional.get().getFrom(this);
+        SpongeDataProcessor<T> processor = SpongeManipulatorRegistry.getInstance().getProcessor(dataClass);
+        if (processor != null) {
+            return processor.getFrom(this);
         }
         return Optional.absent();
     }
@@ -66,9 +66,9 @@ public <T extends DataManipulator<T>> Optional<T> getOrCreate(Class<T> manipulat
 
     @Override
     public <T extends DataManipulator<T>> boolean remove(Class<T> manipulatorClass) {
-        Optional<SpongeDataProcessor<T>> utilOptional = SpongeManipulatorRegistry.getInstance().getUtil(manipulatorClass);
-        if (utilOptional.isPresent()) {
-            return utilOptional.get().remove(this);
+        SpongeDataProcessor<T> processor = SpongeManipulatorRegistry.getInstance().getProcessor(manipulatorClass);
+        if (processor != null) {
+            return processor.remove(this);
         }
         return false;
     }
@@ -86,10 +86,10 @@ public <T extends DataManipulator<T>> DataTransactionResult offer(T manipulatorD
     @SuppressWarnings("unchecked")
     @Override
     public <T extends DataManipulator<T>> DataTransactionResult offer(T manipulatorData, DataPriority priority) {
-        Optional<SpongeDataProcessor<T>> setterOptional = SpongeManipulatorRegistry.getInstance().getUtil((Class<T>) (Class) manipulatorData
+        SpongeDataProcessor<T> processor = SpongeManipulatorRegistry.getInstance().getProcessor((Class<T>) (Class) manipulatorData
                 .getClass());
-        if (setterOptional.isPresent()) {
-            return setterOptional.get().setData(this, manipulatorData, priority);
+        if (processor != null) {
+            return processor.setData(this, manipulatorData, priority);
         }
         return DataTransactionBuilder.fail(manipulatorData);
     }
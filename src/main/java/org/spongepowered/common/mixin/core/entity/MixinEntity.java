@@ -54,11 +54,14 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.Sponge;
+import org.spongepowered.common.entity.EntityActivationRange;
 import org.spongepowered.common.interfaces.IMixinEntity;
 import org.spongepowered.common.interfaces.IMixinEntityPlayerMP;
+import org.spongepowered.common.interfaces.IMixinWorldServer;
 import org.spongepowered.common.registry.SpongeGameRegistry;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.DimensionManager;
+import org.spongepowered.common.world.storage.AsyncChunkLoader;
 
 import java.util.ArrayDeque;
 import java.util.EnumSet;
@@ -77,6 +80,9 @@ public abstract class MixinEntity implements Entity, IMixinEntity {
     private net.minecraft.entity.Entity teleportVehicle;
     private float origWidth;
     private float origHeight;
+    private byte activationType;
+    private long activatedTick = Integer.MIN_VALUE;
+    private boolean defaultActivationState = true;
 
     @Shadow private UUID entityUniqueID;
     @Shadow public net.minecraft.world.World worldObj;
@@ -123,6 +129,21 @@ public abstract class MixinEntity implements Entity, IMixinEntity {
 
     // @formatter:on
 
+    @Inject(method = "<init>(Lnet/minecraft/world/World;)V", at = @At("RETURN"))
+    public void onConstructed(net.minecraft.world.World world, CallbackInfo ci) {
+        this.activationType = EntityActivationRange.initializeEntityActivationType((net.minecraft.entity.Entity) (Object) this);
+        this.defaultActivationState = EntityActivationRange.initializeEntityActivationState((net.minecraft.entity.Entity) (Object) this, world);
+    }
+
+    @Inject(method = "mountEntity(Lnet/minecraft/entity/Entity;)V", at = @At("RETURN"))
+    public void onMountEntity(net.minecraft.entity.Entity entity, CallbackInfo ci) {
+        if (entity != null) {
+            // Passengers and their vehicles are ticked together
+            EntityActivationRange.wakeUp((net.minecraft.entity.Entity) (Object) this, 20);
+            EntityActivationRange.wakeUp(entity, 20);
+        }
+    }
+
     @Inject(method = "setSize", at = @At("RETURN"))
     public void onSetSize(float width, float height, CallbackInfo ci) {
         if (this.origWidth == 0 || this.origHeight == 0) {
@@ -401,6 +422,30 @@ public void setTeleportVehicle(net.minecraft.entity.Entity vehicle) {
         this.teleportVehicle = vehicle;
     }
 
+    @Override
+    public byte getActivationType() {
+        return this.activationType;
+    }
+
+    @Override
+    public long getActivatedTick() {
+        return this.activatedTick;
+    }
+
+    @Override
+    public boolean getDefaultActivationState() {
+        return this.defaultActivationState;
+    }
+
+    @Override
+    public void setActivatedTick(long tick) {
+        this.activatedTick = tick;
+    }
+
+    @Override
+    public void inactiveTick() {
+    }
+
     @Override
     public EntityType getType() {
         return this.entityType;
@@ -482,7 +527,13 @@ public boolean teleportEntity(net.minecraft.entity.Entity entity, Location locat
             }
         }
 
-        toWorld.theChunkProviderServer.loadChunk((int) entity.posX >> 4, (int) entity.posZ >> 4);
+        int chunkX = (int) entity.posX >> 4;
+        int chunkZ = (int) entity.posZ >> 4;
+        if (entity instanceof EntityPlayer) {
+            // The player manager loads the surrounding chunks right after
+            ((IMixinWorldServer) toWorld).getAsyncChunkLoader().loadChunks(chunkX, chunkZ, AsyncChunkLoader.TELEPORT_RADIUS, false);
+        }
+        toWorld.theChunkProviderServer.loadChunk(chunkX, chunkZ);
 
         if (entity instanceof EntityPlayer) {
             EntityPlayerMP entityplayermp1 = (EntityPlayerMP) entity;
@@ -50,7 +50,10 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.entity.EntityActivationRange;
 import org.spongepowered.common.entity.living.human.EntityHuman;
 import org.spongepowered.common.interfaces.entity.IMixinEntityLivingBase;
 import org.spongepowered.common.mixin.core.entity.MixinEntity;
@@ -91,6 +94,12 @@ public abstract class MixinEntityLivingBase extends MixinEntity implements Livin
 
     private int maxAir = 300;
 
+    @Inject(method = "attackEntityFrom(Lnet/minecraft/util/DamageSource;F)Z", at = @At("HEAD"))
+    public void onAttackEntityFrom(DamageSource source, float amount, CallbackInfoReturnable<Boolean> cir) {
+        // Damaged entities react right away, even outside of the activation range
+        EntityActivationRange.wakeUp((EntityLivingBase) (Object) this, 20);
+    }
+
     public void setLastAttacker(@Nullable Living lastAttacker) {
         setLastAttacker((EntityLivingBase) lastAttacker);
     }
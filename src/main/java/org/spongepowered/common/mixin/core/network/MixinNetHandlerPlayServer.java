@@ -137,6 +137,10 @@ public void sendCustomPayload(Object plugin, String channel, byte[] data) {
      */
     @Inject(method = "processUpdateSign", at = @At(value = "INVOKE", target = "Lnet/minecraft/network/play/client/C12PacketUpdateSign;getLines()[Lnet/minecraft/util/IChatComponent;"), cancellable = true, locals = LocalCapture.CAPTURE_FAILSOFT)
     public void callSignChangeEvent(C12PacketUpdateSign packetIn, CallbackInfo ci, WorldServer worldserver, BlockPos blockpos, TileEntity tileentity, TileEntitySign tileentitysign) {
+        if (!Sponge.getSpongeEventManager().hasListeners(SignChangeEvent.class)) {
+            // Nobody listens, let vanilla copy the lines
+            return;
+        }
         ci.cancel();
         final Optional<SignData> existingSignData = ((Sign) tileentitysign).getData();
         if (!existingSignData.isPresent()) {
@@ -258,6 +262,12 @@ public void setPlayerLocation(double x, double y, double z, float yaw, float pit
 
     @Inject(method = "processPlayer", at = @At(value = "FIELD", target = "net.minecraft.network.NetHandlerPlayServer.hasMoved:Z", ordinal = 2), cancellable = true)
     public void proccesPlayerMoved(C03PacketPlayer packetIn, CallbackInfo ci){
+        if (!Sponge.getSpongeEventManager().hasListeners(PlayerMoveEvent.class)) {
+            // Don't keep a stale location or teleport around for when a listener is registered
+            lastMoveLocation = null;
+            justTeleported = false;
+            return;
+        }
         if (packetIn.isMoving() || packetIn.getRotating() && !playerEntity.isDead) {
             Player player = (Player) playerEntity;
             Vector3d fromrot = player.getRotation();
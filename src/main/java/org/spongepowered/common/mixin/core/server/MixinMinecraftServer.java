@@ -26,6 +26,7 @@
 
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import net.minecraft.profiler.Profiler;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.ServerConfigurationManager;
@@ -47,6 +48,7 @@
 import org.spongepowered.api.Server;
 import org.spongepowered.api.entity.player.Player;
 import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.world.WorldLoadEvent;
 import org.spongepowered.api.service.permission.PermissionService;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.sink.MessageSink;
@@ -68,17 +70,20 @@
 import org.spongepowered.common.interfaces.IMixinSubject;
 import org.spongepowered.common.interfaces.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.IMixinWorldProvider;
+import org.spongepowered.common.interfaces.IMixinWorldServer;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.text.sink.SpongeMessageSinkFactory;
+import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.DimensionManager;
 import org.spongepowered.common.world.SpongeDimensionType;
+import org.spongepowered.common.world.gen.SpawnChunkGenerator;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.io.File;
 import java.net.InetSocketAddress;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
@@ -134,12 +139,7 @@ public Optional<World> loadWorld(UUID uuid) {
 
     @Override
     public Optional<World> getWorld(String worldName) {
-        for (World world : getWorlds()) {
-            if (world.getName().equals(worldName)) {
-                return Optional.of(world);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable((World) DimensionManager.getWorldByName(worldName));
     }
 
     @Override
@@ -366,8 +366,10 @@ protected void loadAllWorlds(String overworldFolder, String unused, long seed, W
                 world.getWorldInfo().setGameType(this.getGameType());
             }
             Sponge.getSpongeRegistry().registerWorldProperties((WorldProperties) worldInfo);
-            Sponge.getGame().getEventManager().post(SpongeImplEventFactory.createWorldLoad(Sponge.getGame(), (org.spongepowered.api.world.World)
-                    world));
+            if (Sponge.getSpongeEventManager().hasListeners(WorldLoadEvent.class)) {
+                Sponge.getGame().getEventManager().post(SpongeImplEventFactory.createWorldLoad(Sponge.getGame(),
+                        (org.spongepowered.api.world.World) world));
+            }
         }
 
         this.serverConfigManager.setPlayerManager(new WorldServer[]{DimensionManager.getWorldFromDimId(0)});
@@ -377,38 +379,74 @@ protected void loadAllWorlds(String overworldFolder, String unused, long seed, W
 
     @Overwrite
     protected void initialWorldChunkLoad() {
+        List<WorldServer> worlds = Lists.newArrayList();
         for (WorldServer worldserver : DimensionManager.getWorlds()) {
             WorldProperties worldProperties = ((World) worldserver).getProperties();
             if (worldProperties.doesKeepSpawnLoaded()) {
-                prepareSpawnArea(worldserver);
+                worlds.add(worldserver);
             }
         }
+        prepareSpawnAreas(worlds);
 
         this.clearCurrentTask();
     }
 
     protected void prepareSpawnArea(WorldServer world) {
-        int i = 0;
+        prepareSpawnAreas(Collections.singletonList(world));
+
+        this.clearCurrentTask();
+    }
+
+    private void prepareSpawnAreas(List<WorldServer> worlds) {
         this.setUserMessage("menu.generatingTerrain");
-        logger.info("Preparing start region for level " + world.provider.getDimensionId());
-        BlockPos blockpos = world.getSpawnPoint();
+        int total = 0;
+        int[] radii = new int[worlds.size()];
+        SpawnChunkGenerator[] generators = new SpawnChunkGenerator[worlds.size()];
+
+        // Read, and where possible generate, the spawn areas of all worlds at once while they are added one by one below
+        for (int w = 0; w < worlds.size(); w++) {
+            WorldServer world = worlds.get(w);
+            BlockPos blockpos = world.getSpawnPoint();
+            radii[w] = SpongeHooks.getActiveConfig(world).getConfig().getWorld().getSpawnPreparationRadius() >> 4;
+            total += (radii[w] * 2 + 1) * (radii[w] * 2 + 1);
+            ((IMixinWorldServer) world).getAsyncChunkLoader().loadChunks(blockpos.getX() >> 4, blockpos.getZ() >> 4, radii[w], true);
+            if (SpawnChunkGenerator.canGenerateAsync(world)) {
+                generators[w] = SpawnChunkGenerator.start(world, blockpos.getX() >> 4, blockpos.getZ() >> 4, radii[w]);
+            }
+        }
+
+        int i = 0;
         long j = MinecraftServer.getCurrentTimeMillis();
+        for (int w = 0; w < worlds.size() && this.isServerRunning(); w++) {
+            WorldServer world = worlds.get(w);
+            logger.info("Preparing start region for level " + world.provider.getDimensionId());
+            if (generators[w] != null) {
+                generators[w].await();
+            }
 
-        for (int k = -192; k <= 192 && this.isServerRunning(); k += 16) {
-            for (int l = -192; l <= 192 && this.isServerRunning(); l += 16) {
-                long i1 = MinecraftServer.getCurrentTimeMillis();
+            BlockPos blockpos = world.getSpawnPoint();
+            int radius = radii[w];
+            for (int k = -radius; k <= radius && this.isServerRunning(); k++) {
+                for (int l = -radius; l <= radius && this.isServerRunning(); l++) {
+                    long i1 = MinecraftServer.getCurrentTimeMillis();
 
-                if (i1 - j > 1000L) {
-                    this.outputPercentRemaining("Preparing spawn area", i * 100 / 625);
-                    j = i1;
-                }
+                    if (i1 - j > 1000L) {
+                        this.outputPercentRemaining("Preparing spawn area", i * 100 / total);
+                        j = i1;
+                    }
 
-                ++i;
-                world.theChunkProviderServer.loadChunk(blockpos.getX() + k >> 4, blockpos.getZ() + l >> 4);
+                    ++i;
+                    world.theChunkProviderServer.loadChunk((blockpos.getX() >> 4) + k, (blockpos.getZ() >> 4) + l);
+                }
             }
+            ((IMixinWorldServer) world).getAsyncChunkLoader().clearGeneratedChunks();
         }
 
-        this.clearCurrentTask();
+        for (SpawnChunkGenerator generator : generators) {
+            if (generator != null) {
+                generator.cancel();
+            }
+        }
     }
 
     @Override
@@ -463,7 +501,9 @@ public Optional<World> loadWorld(String worldName) {
         ((IMixinWorldProvider) world.provider).setDimension(dim);
 
         world.addWorldAccess(new WorldManager((MinecraftServer) (Object) this, world));
-        Sponge.getGame().getEventManager().post(SpongeImplEventFactory.createWorldLoad(Sponge.getGame(), (World) world));
+        if (Sponge.getSpongeEventManager().hasListeners(WorldLoadEvent.class)) {
+            Sponge.getGame().getEventManager().post(SpongeImplEventFactory.createWorldLoad(Sponge.getGame(), (World) world));
+        }
         if (!isSinglePlayer()) {
             world.getWorldInfo().setGameType(getGameType());
         }
@@ -542,21 +582,12 @@ public boolean unloadWorld(World world) {
 
     @Override
     public Collection<World> getWorlds() {
-        List<World> worlds = new ArrayList<World>();
-        for (WorldServer worldServer : DimensionManager.getWorlds()) {
-            worlds.add((World) worldServer);
-        }
-        return worlds;
+        return DimensionManager.getWorldList();
     }
 
     @Override
     public Optional<World> getWorld(UUID uniqueId) {
-        for (WorldServer worldserver : DimensionManager.getWorlds()) {
-            if (((World) worldserver).getUniqueId().equals(uniqueId)) {
-                return Optional.of((World) worldserver);
-            }
-        }
-        return Optional.absent();
+        return Optional.fromNullable((World) DimensionManager.getWorldByUniqueId(uniqueId));
     }
 
     @Override
@@ -24,6 +24,9 @@
  */
 package org.spongepowered.common.mixin.core.server;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.SimpleChannelInboundHandler;
 import net.minecraft.network.NetworkManager;
 import org.spongepowered.api.MinecraftVersion;
@@ -34,14 +37,21 @@
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.Queue;
 
 @SuppressWarnings("rawtypes")
 @Mixin(NetworkManager.class)
 public abstract class MixinNetworkManager extends SimpleChannelInboundHandler implements IMixinNetworkManager {
 
+    @Shadow private Channel channel;
+    @Shadow private Queue outboundPacketsQueue;
+
     @Shadow
     public abstract SocketAddress getRemoteAddress();
 
+    @Shadow
+    public abstract boolean isChannelOpen();
+
     private InetSocketAddress virtualHost;
     private MinecraftVersion version;
 
@@ -69,4 +79,16 @@ public MinecraftVersion getVersion() {
     public void setVersion(int version) {
         this.version = new SpongeMinecraftVersion(String.valueOf(version), version);
     }
+
+    @Override
+    public boolean sendEncodedPacket(ByteBuf payload) {
+        // Queued packets have to go out first, leave it to sendPacket then
+        if (!isChannelOpen() || !this.outboundPacketsQueue.isEmpty()) {
+            return false;
+        }
+        // Bypasses the packet encoder, but still goes through compression and
+        // encryption, which release their input
+        this.channel.writeAndFlush(payload.duplicate().retain()).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
+        return true;
+    }
 }
@@ -35,6 +35,7 @@
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.network.NetworkManager;
+import net.minecraft.network.Packet;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.network.play.server.S01PacketJoinGame;
 import net.minecraft.network.play.server.S03PacketTimeUpdate;
@@ -65,6 +66,8 @@
 import org.spongepowered.api.entity.player.Player;
 import org.spongepowered.api.event.entity.player.PlayerJoinEvent;
 import org.spongepowered.api.event.entity.player.PlayerRespawnEvent;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.sink.MessageSink;
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.api.world.Dimension;
 import org.spongepowered.api.world.Location;
@@ -72,15 +75,20 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.common.Sponge;
 import org.spongepowered.common.event.SpongeImplEventFactory;
 import org.spongepowered.common.interfaces.IMixinEntityPlayer;
 import org.spongepowered.common.interfaces.IMixinEntityPlayerMP;
 import org.spongepowered.common.interfaces.IMixinWorldProvider;
+import org.spongepowered.common.interfaces.IMixinWorldServer;
 import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.util.PacketBroadcast;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.DimensionManager;
 import org.spongepowered.common.world.border.PlayerBorderListener;
+import org.spongepowered.common.world.storage.AsyncChunkLoader;
 
 import java.util.List;
 import java.util.Map;
@@ -206,17 +214,23 @@ public void initializeConnectionToPlayer(NetworkManager netManager, EntityPlayer
         chatcomponenttranslation.getChatStyle().setColor(EnumChatFormatting.YELLOW);
 
         // Fire PlayerJoinEvent
-        final PlayerJoinEvent event = SpongeImplEventFactory.createPlayerJoin(Sponge.getGame(), (Player) playerIn, ((Player) playerIn).getLocation(),
-                SpongeTexts.toText(chatcomponenttranslation), ((Player) playerIn).getMessageSink());
-        Sponge.getGame().getEventManager().post(event);
-        // Set the resolved location of the event onto the player
-        ((Player) playerIn).setLocation(event.getLocation());
+        Text joinMessage = SpongeTexts.toText(chatcomponenttranslation);
+        MessageSink joinSink = ((Player) playerIn).getMessageSink();
+        if (Sponge.getSpongeEventManager().hasListeners(PlayerJoinEvent.class)) {
+            final PlayerJoinEvent event = SpongeImplEventFactory.createPlayerJoin(Sponge.getGame(), (Player) playerIn,
+                    ((Player) playerIn).getLocation(), joinMessage, joinSink);
+            Sponge.getGame().getEventManager().post(event);
+            // Set the resolved location of the event onto the player
+            ((Player) playerIn).setLocation(event.getLocation());
+            joinMessage = event.getNewMessage();
+            joinSink = event.getSink();
+        }
 
         logger.info(playerIn.getCommandSenderName() + "[" + s1 + "] logged in with entity id " + playerIn.getEntityId() + " at (" + playerIn.posX
                 + ", " + playerIn.posY + ", " + playerIn.posZ + ")");
 
         // Sponge start -> Send to the sink
-        event.getSink().sendMessage(event.getNewMessage());
+        joinSink.sendMessage(joinMessage);
         // Sponge end
 
         this.func_96456_a((ServerScoreboard) worldserver.getScoreboard(), playerIn);
@@ -280,22 +294,26 @@ public EntityPlayerMP recreatePlayerEntity(EntityPlayerMP playerIn, int targetDi
         playerIn.setSneaking(false);
 
         // ### PHASE 4 ### Fire event and set new location on the player
-        final PlayerRespawnEvent event =
-                SpongeImplEventFactory.createPlayerRespawn(Sponge.getGame(), (Player) playerIn, this.tempIsBedSpawn, location);
-        this.tempIsBedSpawn = false;
-        Sponge.getGame().getEventManager().post(event);
-        location = event.getNewRespawnLocation();
-
-        if (!(location.getExtent() instanceof WorldServer)) {
-            Sponge.getLogger().warn("Location set in PlayerRespawnEvent was invalid, using original location instead");
-            location = event.getRespawnLocation();
+        if (Sponge.getSpongeEventManager().hasListeners(PlayerRespawnEvent.class)) {
+            final PlayerRespawnEvent event =
+                    SpongeImplEventFactory.createPlayerRespawn(Sponge.getGame(), (Player) playerIn, this.tempIsBedSpawn, location);
+            Sponge.getGame().getEventManager().post(event);
+            location = event.getNewRespawnLocation();
+
+            if (!(location.getExtent() instanceof WorldServer)) {
+                Sponge.getLogger().warn("Location set in PlayerRespawnEvent was invalid, using original location instead");
+                location = event.getRespawnLocation();
+            }
         }
+        this.tempIsBedSpawn = false;
         final WorldServer targetWorld = (WorldServer) location.getExtent();
 
         playerIn.dimension = targetWorld.provider.getDimensionId();
         playerIn.setWorld(targetWorld);
         playerIn.theItemInWorldManager.setWorld(targetWorld);
 
+        ((IMixinWorldServer) targetWorld).getAsyncChunkLoader().loadChunks((int) location.getX() >> 4, (int) location.getZ() >> 4,
+                AsyncChunkLoader.TELEPORT_RADIUS, false);
         targetWorld.theChunkProviderServer.loadChunk((int) location.getX() >> 4, (int) location.getZ() >> 4);
 
         // ### PHASE 5 ### Respawn player in new world
@@ -374,6 +392,14 @@ private Location getPlayerRespawnLocation(EntityPlayerMP playerIn, int targetDim
         return new Location((World) targetWorld, spawnPos);
     }
 
+    @SuppressWarnings("unchecked")
+    @Redirect(method = "sendChatMsgImpl(Lnet/minecraft/util/IChatComponent;Z)V", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/server/management/ServerConfigurationManager;sendPacketToAllPlayers(Lnet/minecraft/network/Packet;)V"))
+    private void onSendChatPacket(ServerConfigurationManager manager, Packet packet) {
+        // The component is the same for everyone, so encode it only once
+        PacketBroadcast.sendToAll(this.playerEntityList, packet);
+    }
+
     @Overwrite
     public void setPlayerManager(WorldServer[] worldServers) {
         if (this.playerNBTManagerObj != null) {
@@ -29,8 +29,8 @@
 import com.flowpowered.math.vector.Vector2i;
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.base.Optional;
-import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
 import net.minecraft.util.BlockPos;
 import net.minecraft.world.ChunkCoordIntPair;
 import net.minecraft.world.World;
@@ -38,6 +38,7 @@
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.biome.WorldChunkManager;
 import net.minecraft.world.chunk.ChunkPrimer;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.spongepowered.api.block.BlockState;
@@ -64,6 +65,7 @@
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.util.gen.FastChunkBuffer;
 import org.spongepowered.common.util.gen.ObjectArrayMutableBiomeBuffer;
+import org.spongepowered.common.world.extent.BlockVisitor;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.util.Collection;
@@ -86,13 +88,11 @@ public abstract class MixinChunk implements Chunk {
     @Shadow public int zPosition;
     @Shadow private boolean isChunkLoaded;
     @Shadow private boolean isTerrainPopulated;
+    @Shadow private ExtendedBlockStorage[] storageArrays;
 
     @Shadow
     public abstract IBlockState getBlockState(BlockPos pos);
 
-    @Shadow(prefix = "shadow$")
-    public abstract Block shadow$getBlock(int x, int y, int z);
-
     @Shadow
     public abstract BiomeGenBase getBiome(BlockPos pos, WorldChunkManager chunkManager);
 
@@ -178,9 +178,9 @@ public org.spongepowered.api.world.World getWorld() {
 
     @Override
     public <T extends DataManipulator<T>> Optional<T> getData(int x, int y, int z, Class<T> dataClass) {
-        Optional<SpongeBlockProcessor<T>> blockUtilOptional = SpongeManipulatorRegistry.getInstance().getBlockUtil(dataClass);
-        if (blockUtilOptional.isPresent()) {
-            return blockUtilOptional.get().fromBlockPos(this.worldObj, new BlockPos(x, y, z));
+        SpongeBlockProcessor<T> processor = SpongeManipulatorRegistry.getInstance().getBlockProcessor(dataClass);
+        if (processor != null) {
+            return processor.fromBlockPos(this.worldObj, new BlockPos(x, y, z));
         }
         return Optional.absent();
     }
@@ -188,18 +188,18 @@ public <T extends DataManipulator<T>> Optional<T> getData(int x, int y, int z, C
 
     @Override
     public <T extends DataManipulator<T>> Optional<T> getOrCreate(int x, int y, int z, Class<T> manipulatorClass) {
-        Optional<SpongeBlockProcessor<T>> blockUtilOptional = SpongeManipulatorRegistry.getInstance().getBlockUtil(manipulatorClass);
-        if (blockUtilOptional.isPresent()) {
-            return blockUtilOptional.get().fromBlockPos(this.worldObj, new BlockPos(x, y, z));
+        SpongeBlockProcessor<T> processor = SpongeManipulatorRegistry.getInstance().getBlockProcessor(manipulatorClass);
+        if (processor != null) {
+            return processor.fromBlockPos(this.worldObj, new BlockPos(x, y, z));
         }
         return Optional.absent();
     }
 
     @Override
     public <T extends DataManipulator<T>> boolean remove(int x, int y, int z, Class<T> manipulatorClass) {
-        Optional<SpongeBlockProcessor<T>> blockUtilOptional = SpongeManipulatorRegistry.getInstance().getBlockUtil(manipulatorClass);
-        if (blockUtilOptional.isPresent()) {
-            return blockUtilOptional.get().remove(this.worldObj, new BlockPos(x, y, z));
+        SpongeBlockProcessor<T> processor = SpongeManipulatorRegistry.getInstance().getBlockProcessor(manipulatorClass);
+        if (processor != null) {
+            return processor.remove(this.worldObj, new BlockPos(x, y, z));
         }
         return false;
     }
@@ -208,10 +208,10 @@ public <T extends DataManipulator<T>> boolean remove(int x, int y, int z, Class<
     @SuppressWarnings("unchecked")
     @Override
     public <T extends DataManipulator<T>> DataTransactionResult offer(int x, int y, int z, T manipulatorData, DataPriority priority) {
-        Optional<SpongeBlockProcessor<T>> blockUtilOptional = SpongeManipulatorRegistry.getInstance().getBlockUtil((Class<T>) (Class) manipulatorData
+        SpongeBlockProcessor<T> processor = SpongeManipulatorRegistry.getInstance().getBlockProcessor((Class<T>) (Class) manipulatorData
                 .getClass());
-        if (blockUtilOptional.isPresent()) {
-            return blockUtilOptional.get().setData(this.worldObj, new BlockPos(x, y, z), manipulatorData, priority);
+        if (processor != null) {
+            return processor.setData(this.worldObj, new BlockPos(x, y, z), manipulatorData, priority);
         }
         return builder().result(DataTransactionResult.Type.FAILURE).build();
     }
@@ -242,7 +242,30 @@ public void setBiome(int x, int z, BiomeType biome) {
     @Override
     public BlockState getBlock(int x, int y, int z) {
         checkBlockBounds(x, y, z);
-        return (BlockState) getBlockState(new BlockPos(x, y, z));
+        ExtendedBlockStorage section = this.storageArrays[y >> 4];
+        if (section == null) {
+            return (BlockState) Blocks.air.getDefaultState();
+        }
+        return (BlockState) section.get(x & 0xf, y & 0xf, z & 0xf);
+    }
+
+    @Override
+    public void forEachBlock(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, BlockVisitor visitor) {
+        checkBlockBounds(minX, minY, minZ);
+        checkBlockBounds(maxX, maxY, maxZ);
+        BlockState air = (BlockState) Blocks.air.getDefaultState();
+        for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+            ExtendedBlockStorage section = this.storageArrays[sectionY];
+            int fromY = Math.max(minY, sectionY << 4);
+            int toY = Math.min(maxY, (sectionY << 4) | 0xf);
+            for (int y = fromY; y <= toY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        visitor.visit(x, y, z, section == null ? air : (BlockState) section.get(x & 0xf, y & 0xf, z & 0xf));
+                    }
+                }
+            }
+        }
     }
 
     @Override
@@ -253,8 +276,7 @@ public void setBlock(int x, int y, int z, BlockState block) {
 
     @Override
     public BlockType getBlockType(int x, int y, int z) {
-        checkBlockBounds(x, y, z);
-        return (BlockType) shadow$getBlock(x, y, z);
+        return getBlock(x, y, z).getType();
     }
 
     @Override
@@ -36,6 +36,8 @@
 import com.google.common.base.Predicates;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListenableFuture;
+import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityHanging;
 import net.minecraft.entity.boss.EntityDragonPart;
@@ -55,6 +57,7 @@
 import net.minecraft.profiler.Profiler;
 import net.minecraft.scoreboard.Scoreboard;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.gui.IUpdatePlayerListBox;
 import net.minecraft.server.management.ServerConfigurationManager;
 import net.minecraft.util.BlockPos;
 import net.minecraft.util.EnumFacing;
@@ -95,6 +98,7 @@
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.util.PositionOutOfBoundsException;
 import org.spongepowered.api.util.annotation.NonnullByDefault;
+import org.spongepowered.api.util.gen.MutableBlockBuffer;
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.Dimension;
 import org.spongepowered.api.world.Location;
@@ -115,14 +119,19 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.Sponge;
 import org.spongepowered.common.configuration.SpongeConfig;
+import org.spongepowered.common.configuration.SpongeConfigSnapshot;
 import org.spongepowered.common.data.SpongeBlockProcessor;
 import org.spongepowered.common.data.SpongeManipulatorRegistry;
 import org.spongepowered.common.effect.particle.SpongeParticleEffect;
 import org.spongepowered.common.effect.particle.SpongeParticleHelper;
+import org.spongepowered.common.entity.EntityActivationRange;
+import org.spongepowered.common.interfaces.IMixinExtent;
+import org.spongepowered.common.interfaces.IMixinTileEntity;
 import org.spongepowered.common.interfaces.IMixinWorld;
 import org.spongepowered.common.interfaces.IMixinWorldSettings;
 import org.spongepowered.common.interfaces.IMixinWorldType;
@@ -132,7 +141,10 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.DimensionManager;
+import org.spongepowered.common.world.TileEntityTickThrottle;
 import org.spongepowered.common.world.border.PlayerBorderListener;
+import org.spongepowered.common.world.extent.BlockBufferWriter;
+import org.spongepowered.common.world.extent.BlockVisitor;
 import org.spongepowered.common.world.gen.CustomChunkProviderGenerate;
 import org.spongepowered.common.world.gen.CustomWorldChunkManager;
 import org.spongepowered.common.world.gen.SpongeBiomeGenerator;
@@ -160,6 +172,11 @@ public abstract class MixinWorld implements World, IMixinWorld {
     private static final Vector2i BIOME_SIZE = BIOME_MAX.sub(BIOME_MIN).add(1, 1);
     private boolean keepSpawnLoaded;
     public SpongeConfig<SpongeConfig.WorldConfig> worldConfig;
+    private SpongeConfigSnapshot activeConfigSnapshot;
+    private boolean activationRange;
+    private SpongeConfig.TileEntityCategory tileEntityConfig;
+    private int activeEntityCount;
+    private int inactiveEntityCount;
     private volatile Context worldContext;
     private ImmutableList<Populator> populators;
     private ImmutableList<GeneratorPopulator> generatorPopulators;
@@ -167,6 +184,7 @@ public abstract class MixinWorld implements World, IMixinWorld {
     protected SpongeScoreboard spongeScoreboard = new SpongeScoreboard();
 
     @Shadow public WorldProvider provider;
+    @Shadow public boolean isRemote;
     @Shadow protected WorldInfo worldInfo;
     @Shadow public Random rand;
     @Shadow public List<net.minecraft.entity.Entity> loadedEntityList;
@@ -226,6 +244,74 @@ public void onGetCollidingBoundingBoxes(net.minecraft.entity.Entity entity, net.
         }
     }
 
+    @Inject(method = "updateEntities()V", at = @At("HEAD"))
+    public void onUpdateEntities(CallbackInfo ci) {
+        this.activationRange = !this.isRemote && EntityActivationRange.isEnabled();
+        this.activeEntityCount = 0;
+        this.inactiveEntityCount = 0;
+        if (this.activationRange) {
+            EntityActivationRange.activateEntities((net.minecraft.world.World) (Object) this);
+        }
+        if (!this.isRemote) {
+            this.tileEntityConfig = SpongeHooks.getActiveConfig((net.minecraft.world.World) (Object) this).getConfig().getTileEntity();
+        }
+    }
+
+    @Redirect(method = "updateEntities()V", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/gui/IUpdatePlayerListBox;update()V"))
+    public void onUpdateTileEntity(IUpdatePlayerListBox tile) {
+        if (this.isRemote) {
+            tile.update();
+        } else {
+            TileEntityTickThrottle.update((net.minecraft.tileentity.TileEntity) tile, this.worldInfo.getWorldTotalTime(), this.tileEntityConfig);
+        }
+    }
+
+    @Inject(method = "notifyBlockOfStateChange(Lnet/minecraft/util/BlockPos;Lnet/minecraft/block/Block;)V", at = @At("HEAD"))
+    public void onNotifyBlockOfStateChange(BlockPos pos, Block blockIn, CallbackInfo ci) {
+        // Wake up a sleeping tile entity when one of its neighbours changes
+        if (this.tileEntityConfig != null && this.tileEntityConfig.sleepIdle()
+                && this.getChunkProvider().chunkExists(pos.getX() >> 4, pos.getZ() >> 4)) {
+            Object tile = this.getChunkFromChunkCoords(pos.getX() >> 4, pos.getZ() >> 4).getTileEntityMap().get(pos);
+            if (tile != null) {
+                ((IMixinTileEntity) tile).setSleeping(false);
+            }
+        }
+    }
+
+    @Redirect(method = "updateEntities()V", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/World;updateEntity(Lnet/minecraft/entity/Entity;)V"))
+    public void onUpdateEntity(net.minecraft.world.World world, net.minecraft.entity.Entity entity) {
+        if (!this.activationRange || EntityActivationRange.checkIfActive(entity)) {
+            this.activeEntityCount++;
+            world.updateEntity(entity);
+        } else {
+            this.inactiveEntityCount++;
+            EntityActivationRange.inactiveTick(entity);
+        }
+    }
+
+    @Override
+    public int getActiveEntityCount() {
+        return this.activeEntityCount;
+    }
+
+    @Override
+    public int getInactiveEntityCount() {
+        return this.inactiveEntityCount;
+    }
+
+    @Override
+    public void setBlocks(Vector3i position, MutableBlockBuffer buffer, boolean notifyNeighbours) {
+        if (!((Object) this instanceof WorldServer)) {
+            throw new UnsupportedOperationException("Blocks can only be written in bulk on the server");
+        }
+        BlockBufferWriter.write((WorldServer) (Object) this, position, buffer, notifyNeighbours);
+    }
+
+    @Override
+    public ListenableFuture<Optional<Chunk>> loadChunkAsync(int x, int z, boolean generate) {
+        throw new UnsupportedOperationException("Chunks can only be loaded asynchronously on the server");
+    }
+
     @Override
     public float getTemperature(Vector3i position) {
         return getTemperature(position.getX(), position.getY(), position.getZ());
@@ -289,6 +375,18 @@ public BlockState getBlock(int x, int y, int z) {
         return (BlockState) getBlockState(new BlockPos(x, y, z));
     }
 
+    @Override
+    public void forEachBlock(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, BlockVisitor visitor) {
+        checkBlockBounds(minX, minY, minZ);
+        checkBlockBounds(maxX, maxY, maxZ);
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                ((IMixinExtent) getChunkFromChunkCoords(chunkX, chunkZ)).forEachBlock(Math.max(minX, chunkX << 4), minY,
+                        Math.max(minZ, chunkZ << 4), Math.min(maxX, (chunkX << 4) | 0xf), maxY, Math.min(maxZ, (chunkZ << 4) | 0xf), visitor);
+            }
+        }
+    }
+
     @Override
     public BlockType getBlockType(int x, int y, int z) {
         checkBlockBounds(x, y, z);
@@ -536,6 +634,17 @@ public SpongeConfig<SpongeConfig.WorldConfig> getWorldConfig() {
         return this.worldConfig;
     }
 
+    @Override
+    public SpongeConfigSnapshot getActiveConfigSnapshot() {
+        int generation = SpongeConfig.getGeneration();
+        SpongeConfigSnapshot snapshot = this.activeConfigSnapshot;
+        if (snapshot == null || snapshot.getGeneration() != generation) {
+            snapshot = new SpongeConfigSnapshot(SpongeHooks.getActiveConfig((net.minecraft.world.World) (Object) this), generation);
+            this.activeConfigSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
     @Override
     public void playSound(SoundType sound, Vector3d position, double volume) {
         this.playSound(sound, position, volume, 1);
@@ -665,9 +774,9 @@ public Optional<TileEntity> getTileEntity(int x, int y, int z) {
 
     @Override
     public <T extends DataManipulator<T>> Optional<T> getData(int x, int y, int z, Class<T> dataClass) {
-        Optional<SpongeBlockProcessor<T>> blockUtilOptional = SpongeManipulatorRegistry.getInstance().getBlockUtil(dataClass);
-        if (blockUtilOptional.isPresent()) {
-            return blockUtilOptional.get().fromBlockPos((net.minecraft.world.World) (Object) this, new BlockPos(x, y, z));
+        SpongeBlockProcessor<T> processor = SpongeManipulatorRegistry.getInstance().getBlockProcessor(dataClass);
+        if (processor != null) {
+            return processor.fromBlockPos((net.minecraft.world.World) (Object) this, new BlockPos(x, y, z));
         }
         return Optional.absent();
     }
@@ -675,11 +784,11 @@ public <T extends DataManipulator<T>> Optional<T> getData(int x, int y, int z, C
 
     @Override
     public <T extends DataManipulator<T>> Optional<T> getOrCreate(int x, int y, int z, Class<T> manipulatorClass) {
-        Optional<SpongeBlockProcessor<T>> blockUtilOptional = SpongeManipulatorRegistry.getInstance().getBlockUtil(manipulatorClass);
-        if (blockUtilOptional.isPresent()) {
-            Optional<T> data = blockUtilOptional.get().fromBlockPos((net.minecraft.world.World) (Object) this, new BlockPos(x, y, z));
-            if (!data.isPresent() && blockUtilOptional.get() instanceof DataManipulatorBuilder) {
-                data = Optional.<T>fromNullable(((DataManipulatorBuilder<T>) blockUtilOptional.get()).create());
+        SpongeBlockProcessor<T> processor = SpongeManipulatorRegistry.getInstance().getBlockProcessor(manipulatorClass);
+        if (processor != null) {
+            Optional<T> data = processor.fromBlockPos((net.minecraft.world.World) (Object) this, new BlockPos(x, y, z));
+            if (!data.isPresent() && processor instanceof DataManipulatorBuilder) {
+                data = Optional.<T>fromNullable(((DataManipulatorBuilder<T>) processor).create());
             }
             return data;
         }
@@ -688,18 +797,18 @@ public <T extends DataManipulator<T>> Optional<T> getOrCreate(int x, int y, int
 
     @Override
     public <T extends DataManipulator<T>> boolean remove(int x, int y, int z, Class<T> manipulatorClass) {
-        Optional<SpongeBlockProcessor<T>> blockUtilOptional = SpongeManipulatorRegistry.getInstance().getBlockUtil(manipulatorClass);
-        return blockUtilOptional.isPresent() && blockUtilOptional.get().remove((net.minecraft.world.World) ((Object) this), new BlockPos(x, y, z));
+        SpongeBlockProcessor<T> processor = SpongeManipulatorRegistry.getInstance().getBlockProcessor(manipulatorClass);
+        return processor != null && processor.remove((net.minecraft.world.World) ((Object) this), new BlockPos(x, y, z));
     }
 
 
     @SuppressWarnings("unchecked")
     @Override
     public <T extends DataManipulator<T>> DataTransactionResult offer(int x, int y, int z, T manipulatorData, DataPriority priority) {
-        Optional<SpongeBlockProcessor<T>> blockUtilOptional = SpongeManipulatorRegistry.getInstance().getBlockUtil((Class<T>) (Class) manipulatorData
+        SpongeBlockProcessor<T> processor = SpongeManipulatorRegistry.getInstance().getBlockProcessor((Class<T>) (Class) manipulatorData
                 .getClass());
-        if (blockUtilOptional.isPresent()) {
-            return blockUtilOptional.get().setData((net.minecraft.world.World) ((Object) this), new BlockPos(x, y, z), manipulatorData, priority);
+        if (processor != null) {
+            return processor.setData((net.minecraft.world.World) ((Object) this), new BlockPos(x, y, z), manipulatorData, priority);
         }
         return builder().result(DataTransactionResult.Type.FAILURE).build();
     }
@@ -24,14 +24,22 @@
  */
 package org.spongepowered.common.mixin.core.world;
 
+import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import net.minecraft.scoreboard.ScoreboardSaveData;
 import net.minecraft.util.BlockPos;
 import net.minecraft.village.VillageCollection;
+import net.minecraft.world.ChunkCoordIntPair;
 import net.minecraft.world.NextTickListEntry;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.WorldSettings;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
 import org.spongepowered.api.block.ScheduledBlockUpdate;
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.api.world.GeneratorType;
@@ -48,17 +56,28 @@
 import org.spongepowered.common.interfaces.IMixinBlockUpdate;
 import org.spongepowered.common.interfaces.IMixinScoreboardSaveData;
 import org.spongepowered.common.interfaces.IMixinWorld;
+import org.spongepowered.common.interfaces.IMixinWorldServer;
+import org.spongepowered.common.world.gen.CustomChunkProviderGenerate;
+import org.spongepowered.common.world.storage.AsyncChunkLoader;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 
 @NonnullByDefault
 @Mixin(WorldServer.class)
-public abstract class MixinWorldServer extends MixinWorld {
+public abstract class MixinWorldServer extends MixinWorld implements IMixinWorldServer {
 
     @Shadow private Set<NextTickListEntry> pendingTickListEntriesHashSet;
     @Shadow private TreeSet<NextTickListEntry> pendingTickListEntriesTreeSet;
+    @Shadow private List<NextTickListEntry> pendingTickListEntriesThisTick;
+
+    // Pending block updates grouped by chunk, kept in step with pendingTickListEntriesHashSet
+    private final TLongObjectMap<List<NextTickListEntry>> pendingTickListEntriesByChunk = new TLongObjectHashMap<List<NextTickListEntry>>();
+    private AsyncChunkLoader asyncChunkLoader;
 
     @Inject(method = "createSpawnPosition(Lnet/minecraft/world/WorldSettings;)V", at = @At("HEAD"), cancellable = true)
     public void onCreateSpawnPosition(WorldSettings settings, CallbackInfo ci) {
@@ -93,16 +112,150 @@ public void onPostInit(CallbackInfoReturnable<World> ci) {
 
     @Override
     public Collection<ScheduledBlockUpdate> getScheduledUpdates(int x, int y, int z) {
-        BlockPos position = new BlockPos(x, y, z);
+        List<NextTickListEntry> entries = this.pendingTickListEntriesByChunk.get(ChunkCoordIntPair.chunkXZ2Int(x >> 4, z >> 4));
+        if (entries == null) {
+            return ImmutableList.of();
+        }
         ImmutableList.Builder<ScheduledBlockUpdate> builder = ImmutableList.builder();
-        for (NextTickListEntry sbu : this.pendingTickListEntriesTreeSet) {
-            if (sbu.position.equals(position)) {
+        for (NextTickListEntry sbu : entries) {
+            BlockPos position = sbu.position;
+            if (position.getX() == x && position.getY() == y && position.getZ() == z) {
                 builder.add((ScheduledBlockUpdate) sbu);
             }
         }
         return builder.build();
     }
 
+    @Inject(method = "tick()V", at = @At("HEAD"))
+    public void onTick(CallbackInfo ci) {
+        getAsyncChunkLoader().processReadRequests(getActiveConfigSnapshot().getChunkLoadTickBudget());
+        IChunkProvider generator = ((WorldServer) (Object) this).theChunkProviderServer.serverChunkGenerator;
+        if (generator instanceof CustomChunkProviderGenerate && ((CustomChunkProviderGenerate) generator).getPipeline() != null) {
+            ((CustomChunkProviderGenerate) generator).getPipeline().update((WorldServer) (Object) this);
+        }
+    }
+
+    @Override
+    public AsyncChunkLoader getAsyncChunkLoader() {
+        if (this.asyncChunkLoader == null) {
+            this.asyncChunkLoader = new AsyncChunkLoader((WorldServer) (Object) this);
+        }
+        return this.asyncChunkLoader;
+    }
+
+    @Override
+    public ListenableFuture<Optional<org.spongepowered.api.world.Chunk>> loadChunkAsync(int x, int z, boolean generate) {
+        return getAsyncChunkLoader().loadChunk(x, z, generate);
+    }
+
+    @Inject(method = "getPendingBlockUpdates(Lnet/minecraft/world/chunk/Chunk;Z)Ljava/util/List;", at = @At("HEAD"), cancellable = true)
+    public void onGetPendingBlockUpdates(Chunk chunk, boolean remove, CallbackInfoReturnable<List<NextTickListEntry>> cir) {
+        // Same bounds as vanilla, which reaches two blocks into the neighbouring
+        // chunks on the negative x and z sides
+        int minX = (chunk.xPosition << 4) - 2;
+        int maxX = minX + 16 + 2;
+        int minZ = (chunk.zPosition << 4) - 2;
+        int maxZ = minZ + 16 + 2;
+        List<NextTickListEntry> list = null;
+
+        for (int chunkX = chunk.xPosition - 1; chunkX <= chunk.xPosition; chunkX++) {
+            for (int chunkZ = chunk.zPosition - 1; chunkZ <= chunk.zPosition; chunkZ++) {
+                List<NextTickListEntry> entries = this.pendingTickListEntriesByChunk.get(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+                if (entries == null) {
+                    continue;
+                }
+                for (NextTickListEntry entry : entries) {
+                    BlockPos pos = entry.position;
+                    if (pos.getX() >= minX && pos.getX() < maxX && pos.getZ() >= minZ && pos.getZ() < maxZ) {
+                        if (list == null) {
+                            list = Lists.newArrayList();
+                        }
+                        list.add(entry);
+                    }
+                }
+            }
+        }
+
+        if (list != null) {
+            // Keep the tick order vanilla would have produced by walking the tree set
+            Collections.sort(list);
+            if (remove) {
+                for (NextTickListEntry entry : list) {
+                    this.pendingTickListEntriesHashSet.remove(entry);
+                    this.pendingTickListEntriesTreeSet.remove(entry);
+                    unindexScheduledUpdate(entry);
+                }
+            }
+        }
+
+        for (Iterator<NextTickListEntry> iterator = this.pendingTickListEntriesThisTick.iterator(); iterator.hasNext();) {
+            NextTickListEntry entry = iterator.next();
+            BlockPos pos = entry.position;
+            if (pos.getX() >= minX && pos.getX() < maxX && pos.getZ() >= minZ && pos.getZ() < maxZ) {
+                if (remove) {
+                    this.pendingTickListEntriesHashSet.remove(entry);
+                    iterator.remove();
+                }
+                if (list == null) {
+                    list = Lists.newArrayList();
+                }
+                list.add(entry);
+            }
+        }
+
+        cir.setReturnValue(list);
+    }
+
+    @Redirect(method = "updateBlockTick(Lnet/minecraft/util/BlockPos;Lnet/minecraft/block/Block;II)V",
+            at = @At(value = "INVOKE", target = "Ljava/util/Set;add(Ljava/lang/Object;)Z"))
+    private boolean onAddUpdatedBlock(Set<NextTickListEntry> set, Object entry) {
+        return this.onAddScheduledBlockUpdate(set, entry);
+    }
+
+    @Redirect(method = "scheduleBlockUpdate(Lnet/minecraft/util/BlockPos;Lnet/minecraft/block/Block;II)V",
+            at = @At(value = "INVOKE", target = "Ljava/util/Set;add(Ljava/lang/Object;)Z"))
+    private boolean onAddScheduledBlockUpdate(Set<NextTickListEntry> set, Object entry) {
+        if (set.add((NextTickListEntry) entry)) {
+            NextTickListEntry sbu = (NextTickListEntry) entry;
+            long key = ChunkCoordIntPair.chunkXZ2Int(sbu.position.getX() >> 4, sbu.position.getZ() >> 4);
+            List<NextTickListEntry> entries = this.pendingTickListEntriesByChunk.get(key);
+            if (entries == null) {
+                entries = Lists.newArrayList();
+                this.pendingTickListEntriesByChunk.put(key, entries);
+            }
+            entries.add(sbu);
+            return true;
+        }
+        return false;
+    }
+
+    @Redirect(method = "tickUpdates(Z)Z", at = @At(value = "INVOKE", target = "Ljava/util/Set;remove(Ljava/lang/Object;)Z"))
+    private boolean onTickScheduledBlockUpdate(Set<NextTickListEntry> set, Object entry) {
+        if (set.remove(entry)) {
+            unindexScheduledUpdate((NextTickListEntry) entry);
+            return true;
+        }
+        return false;
+    }
+
+    private void unindexScheduledUpdate(NextTickListEntry sbu) {
+        long key = ChunkCoordIntPair.chunkXZ2Int(sbu.position.getX() >> 4, sbu.position.getZ() >> 4);
+        List<NextTickListEntry> entries = this.pendingTickListEntriesByChunk.get(key);
+        if (entries == null) {
+            return;
+        }
+        // The index mirrors the hash set, which holds one entry per position and block
+        for (Iterator<NextTickListEntry> iterator = entries.iterator(); iterator.hasNext();) {
+            if (iterator.next().equals(sbu)) {
+                iterator.remove();
+                break;
+            }
+        }
+        if (entries.isEmpty()) {
+            this.pendingTickListEntriesByChunk.remove(key);
+        }
+    }
+
     private NextTickListEntry tmpScheduledObj;
 
     @Redirect(method = "updateBlockTick(Lnet/minecraft/util/BlockPos;Lnet/minecraft/block/Block;II)V",
@@ -131,7 +284,9 @@ public ScheduledBlockUpdate addScheduledUpdate(int x, int y, int z, int priority
     @Override
     public void removeScheduledUpdate(int x, int y, int z, ScheduledBlockUpdate update) {
         // Note: Ignores position argument
-        this.pendingTickListEntriesHashSet.remove(update);
+        if (this.pendingTickListEntriesHashSet.remove(update)) {
+            unindexScheduledUpdate((NextTickListEntry) update);
+        }
         this.pendingTickListEntriesTreeSet.remove(update);
     }
 
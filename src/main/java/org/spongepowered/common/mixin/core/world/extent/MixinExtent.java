@@ -48,11 +48,34 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.common.data.SpongeBlockProcessor;
 import org.spongepowered.common.data.SpongeManipulatorRegistry;
+import org.spongepowered.common.interfaces.IMixinExtent;
+import org.spongepowered.common.util.gen.PaletteBlockBuffer;
+import org.spongepowered.common.world.extent.BlockArrayVisitor;
+import org.spongepowered.common.world.extent.BlockVisitor;
 
 import java.util.Collection;
 
 @Mixin({World.class, Chunk.class})
-public abstract class MixinExtent implements Extent {
+public abstract class MixinExtent implements Extent, IMixinExtent {
+
+    @Override
+    public void forEachBlock(Vector3i min, Vector3i max, BlockVisitor visitor) {
+        forEachBlock(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ(), visitor);
+    }
+
+    @Override
+    public BlockState[] getBlocks(Vector3i min, Vector3i max) {
+        BlockArrayVisitor visitor = new BlockArrayVisitor(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ());
+        forEachBlock(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ(), visitor);
+        return visitor.getBlocks();
+    }
+
+    @Override
+    public PaletteBlockBuffer getBlockBuffer(Vector3i min, Vector3i max) {
+        PaletteBlockBuffer buffer = new PaletteBlockBuffer(min, max.sub(min).add(Vector3i.ONE));
+        forEachBlock(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ(), buffer);
+        return buffer;
+    }
 
     @Override
     public <T extends DataManipulator<T>> Optional<T> getData(Vector3i position, Class<T> dataClass) {
@@ -76,9 +99,9 @@ public <T extends DataManipulator<T>> boolean isCompatible(Vector3i position, Cl
 
     @Override
     public <T extends DataManipulator<T>> boolean isCompatible(int x, int y, int z, Class<T> manipulatorClass) {
-        Optional<SpongeBlockProcessor<T>> blockUtilOptional = SpongeManipulatorRegistry.getInstance().getBlockUtil(manipulatorClass);
+        SpongeBlockProcessor<T> processor = SpongeManipulatorRegistry.getInstance().getBlockProcessor(manipulatorClass);
         // TODO for now, this is what we have to deal with...
-        return blockUtilOptional.isPresent();
+        return processor != null;
     }
 
     @Override
@@ -0,0 +1,63 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.gen;
+
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.interfaces.IMixinWorldServer;
+
+@NonnullByDefault
+@Mixin(ChunkProviderServer.class)
+public abstract class MixinChunkProviderServer {
+
+    @Shadow public WorldServer worldObj;
+
+    @Inject(method = "loadChunk(II)Lnet/minecraft/world/chunk/Chunk;", at = @At("HEAD"))
+    public void onLoadChunk(int x, int z, CallbackInfoReturnable<Chunk> cir) {
+        ((IMixinWorldServer) this.worldObj).getAsyncChunkLoader().onLoadChunk(x, z);
+    }
+
+    @Redirect(method = "loadChunk(II)Lnet/minecraft/world/chunk/Chunk;",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/IChunkProvider;provideChunk(II)Lnet/minecraft/world/chunk/Chunk;"))
+    public Chunk onGenerateChunk(IChunkProvider generator, int x, int z) {
+        Chunk chunk = ((IMixinWorldServer) this.worldObj).getAsyncChunkLoader().takeGeneratedChunk(x, z);
+        return chunk != null ? chunk : generator.provideChunk(x, z);
+    }
+
+    @Inject(method = "loadChunk(II)Lnet/minecraft/world/chunk/Chunk;", at = @At("RETURN"))
+    public void onChunkLoaded(int x, int z, CallbackInfoReturnable<Chunk> cir) {
+        ((IMixinWorldServer) this.worldObj).getAsyncChunkLoader().onChunkLoaded(cir.getReturnValue());
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.storage;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.interfaces.IMixinAnvilChunkLoader;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+@NonnullByDefault
+@Mixin(AnvilChunkLoader.class)
+public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
+
+    @Shadow private Map<ChunkCoordIntPair, NBTTagCompound> chunksToRemove;
+    @Shadow public File chunkSaveLocation;
+
+    @Shadow protected abstract Chunk checkedReadChunkFromNBT(World worldIn, int x, int z, NBTTagCompound compound);
+
+    private int prefetchedX;
+    private int prefetchedZ;
+    @Nullable private NBTTagCompound prefetchedData;
+
+    @Override
+    @Nullable
+    public NBTTagCompound readChunkData(int x, int z) throws IOException {
+        NBTTagCompound compound = this.chunksToRemove.get(new ChunkCoordIntPair(x, z));
+        if (compound != null) {
+            return compound;
+        }
+        DataInputStream inputStream = RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z);
+        if (inputStream == null) {
+            return null;
+        }
+        try {
+            return CompressedStreamTools.read(inputStream);
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    @Override
+    public boolean isChunkSaved(int x, int z) {
+        return this.chunksToRemove.containsKey(new ChunkCoordIntPair(x, z))
+                || RegionFileCache.createOrLoadRegionFile(this.chunkSaveLocation, x, z).isChunkSaved(x & 31, z & 31);
+    }
+
+    @Override
+    public void setPrefetchedChunkData(int x, int z, @Nullable NBTTagCompound data) {
+        this.prefetchedX = x;
+        this.prefetchedZ = z;
+        this.prefetchedData = data;
+    }
+
+    @Inject(method = "loadChunk(Lnet/minecraft/world/World;II)Lnet/minecraft/world/chunk/Chunk;", at = @At("HEAD"), cancellable = true)
+    public void onLoadChunk(World worldIn, int x, int z, CallbackInfoReturnable<Chunk> cir) {
+        if (this.prefetchedData != null && this.prefetchedX == x && this.prefetchedZ == z) {
+            NBTTagCompound compound = this.prefetchedData;
+            this.prefetchedData = null;
+            cir.setReturnValue(checkedReadChunkFromNBT(worldIn, x, z, compound));
+        }
+    }
+
+}
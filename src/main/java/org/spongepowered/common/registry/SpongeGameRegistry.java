@@ -258,6 +258,7 @@
 import org.spongepowered.common.Sponge;
 import org.spongepowered.common.configuration.CatalogTypeTypeSerializer;
 import org.spongepowered.common.configuration.SpongeConfig;
+import org.spongepowered.common.data.BlockStateDataTable;
 import org.spongepowered.common.data.SpongeImmutableRegistry;
 import org.spongepowered.common.data.SpongeManipulatorRegistry;
 import org.spongepowered.common.data.builder.block.data.SpongePatternLayerBuilder;
@@ -2089,5 +2090,7 @@ public void postInit() {
         setCoal();
         setFishes();
         setEntityTypes();
+        SpongeManipulatorRegistry.getInstance().seal();
+        BlockStateDataTable.computeAll();
     }
 }
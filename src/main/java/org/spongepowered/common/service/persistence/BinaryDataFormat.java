@@ -0,0 +1,76 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.persistence;
+
+/**
+ * The constants of the binary data format written by the
+ * {@link BinaryDataWriter}.
+ *
+ * <p>A stream starts with the magic number and the version, followed by any
+ * number of containers. A container is the number of its entries as varint,
+ * followed by a key and a tagged value for each entry. Keys are interned per
+ * stream: the first occurrence of a key is written as a zero followed by the
+ * string, later ones as the one based index of the key in the order of first
+ * occurrence. Strings are written as varint length and UTF-8 bytes, ints and
+ * longs as zigzag encoded varints, and arrays packed after their varint
+ * length.</p>
+ */
+final class BinaryDataFormat {
+
+    static final int MAGIC = 0x53444154; // SDAT
+    static final byte VERSION = 1;
+
+    static final byte TAG_BOOLEAN = 0;
+    static final byte TAG_BYTE = 1;
+    static final byte TAG_SHORT = 2;
+    static final byte TAG_INT = 3;
+    static final byte TAG_LONG = 4;
+    static final byte TAG_FLOAT = 5;
+    static final byte TAG_DOUBLE = 6;
+    static final byte TAG_BYTE_ARRAY = 7;
+    static final byte TAG_STRING = 8;
+    static final byte TAG_LIST = 9;
+    static final byte TAG_VIEW = 10;
+    static final byte TAG_INT_ARRAY = 11;
+    static final byte TAG_BOXED_BYTE_ARRAY = 12;
+    static final byte TAG_BOXED_INT_ARRAY = 13;
+
+    /**
+     * The max number of elements of an array, list, string or view, so that a
+     * reader never allocates more than that for a single length read from a
+     * stream.
+     */
+    static final int MAX_LENGTH = 1 << 24;
+
+    /**
+     * The max number of views and lists nested in each other, so that a
+     * reader never recurses deeper than that.
+     */
+    static final int MAX_DEPTH = 512;
+
+    private BinaryDataFormat() {
+    }
+
+}
@@ -0,0 +1,331 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+import static org.spongepowered.common.service.persistence.BinaryDataFormat.*;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the {@link DataContainer}s written by a {@link BinaryDataWriter}, from
+ * a blocking channel or a buffer.
+ */
+public final class BinaryDataReader implements Closeable {
+
+    @Nullable private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final List<String> keys = Lists.newArrayList();
+    private boolean headerRead;
+
+    public BinaryDataReader(ReadableByteChannel channel) {
+        this(channel, 8192);
+    }
+
+    public BinaryDataReader(ReadableByteChannel channel, int bufferSize) {
+        checkArgument(bufferSize >= 16, "The buffer size must be at least 16 bytes");
+        this.channel = checkNotNull(channel);
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.flip();
+    }
+
+    /**
+     * Creates a reader over the remaining bytes of the given buffer. Reading
+     * advances the position of the buffer.
+     *
+     * @param buffer The buffer
+     */
+    public BinaryDataReader(ByteBuffer buffer) {
+        this.channel = null;
+        this.buffer = checkNotNull(buffer);
+    }
+
+    /**
+     * Reads the next container of the stream.
+     *
+     * @return The container, or {@link Optional#absent()} at the end of the
+     *         stream
+     * @throws IOException If reading fails or the data is malformed
+     */
+    public Optional<DataContainer> read() throws IOException {
+        if (!this.headerRead) {
+            if (!fill(1)) {
+                return Optional.absent();
+            }
+            require(5);
+            if (this.buffer.getInt() != MAGIC) {
+                throw new StreamCorruptedException("Not a binary data stream");
+            }
+            byte version = this.buffer.get();
+            if (version != VERSION) {
+                throw new StreamCorruptedException("Unsupported binary data version " + version);
+            }
+            this.headerRead = true;
+        }
+        if (!fill(1)) {
+            return Optional.absent();
+        }
+        DataContainer container = new MemoryDataContainer();
+        readEntries(container, 0);
+        return Optional.of(container);
+    }
+
+    private void readEntries(DataView view, int depth) throws IOException {
+        checkDepth(depth);
+        // Each entry has at least a key index, a tag and a value byte
+        int count = readLength(3);
+        for (int i = 0; i < count; i++) {
+            String key = readKey();
+            require(1);
+            byte tag = this.buffer.get();
+            if (tag == TAG_VIEW) {
+                // Read straight into the child view instead of copying a
+                // container into it
+                readEntries(view.createView(of('.', key)), depth + 1);
+            } else {
+                view.set(of('.', key), readValue(tag, depth));
+            }
+        }
+    }
+
+    private String readKey() throws IOException {
+        int index = readVarInt();
+        if (index == 0) {
+            String key = readString();
+            this.keys.add(key);
+            return key;
+        }
+        if (index > this.keys.size()) {
+            throw new StreamCorruptedException("Unknown key index " + index);
+        }
+        return this.keys.get(index - 1);
+    }
+
+    private Object readValue(byte tag, int depth) throws IOException {
+        switch (tag) {
+            case TAG_BOOLEAN:
+                require(1);
+                return this.buffer.get() != 0;
+            case TAG_BYTE:
+                require(1);
+                return this.buffer.get();
+            case TAG_SHORT:
+                require(2);
+                return this.buffer.getShort();
+            case TAG_INT:
+                return readSignedVarInt();
+            case TAG_LONG:
+                long value = readVarLong();
+                return (value >>> 1) ^ -(value & 1);
+            case TAG_FLOAT:
+                require(4);
+                return this.buffer.getFloat();
+            case TAG_DOUBLE:
+                require(8);
+                return this.buffer.getDouble();
+            case TAG_STRING:
+                return readString();
+            case TAG_BYTE_ARRAY:
+                byte[] bytes = new byte[readLength(1)];
+                readBytes(bytes);
+                return bytes;
+            case TAG_INT_ARRAY:
+                int[] ints = new int[readLength(1)];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = readSignedVarInt();
+                }
+                return ints;
+            case TAG_BOXED_BYTE_ARRAY:
+                Byte[] boxedBytes = new Byte[readLength(1)];
+                for (int i = 0; i < boxedBytes.length; i++) {
+                    require(1);
+                    boxedBytes[i] = this.buffer.get();
+                }
+                return boxedBytes;
+            case TAG_BOXED_INT_ARRAY:
+                Integer[] boxedInts = new Integer[readLength(1)];
+                for (int i = 0; i < boxedInts.length; i++) {
+                    boxedInts[i] = readSignedVarInt();
+                }
+                return boxedInts;
+            case TAG_LIST:
+                checkDepth(depth + 1);
+                // Each element has at least a tag and a value byte
+                int size = readLength(2);
+                List<Object> list = Lists.newArrayListWithCapacity(size);
+                for (int i = 0; i < size; i++) {
+                    require(1);
+                    list.add(readValue(this.buffer.get(), depth + 1));
+                }
+                return list;
+            case TAG_VIEW:
+                DataContainer container = new MemoryDataContainer();
+                readEntries(container, depth + 1);
+                return container;
+            default:
+                throw new StreamCorruptedException("Unknown value tag " + tag);
+        }
+    }
+
+    private String readString() throws IOException {
+        byte[] bytes = new byte[readLength(1)];
+        readBytes(bytes);
+        return new String(bytes, Charsets.UTF_8);
+    }
+
+    /**
+     * Reads the length of an array, list, string or view, and checks that it
+     * fits the data, so that malformed data can't make the reader allocate
+     * huge arrays. A buffer must hold at least the given number of bytes per
+     * element, a stream may not exceed {@link BinaryDataFormat#MAX_LENGTH}.
+     *
+     * @param minElementSize The min number of bytes per element
+     * @return The length
+     */
+    private int readLength(int minElementSize) throws IOException {
+        int length = readVarInt();
+        if (length < 0) {
+            throw new StreamCorruptedException("Negative length " + length);
+        }
+        if (length > MAX_LENGTH) {
+            throw new StreamCorruptedException("Length " + length + " exceeds the max length " + MAX_LENGTH);
+        }
+        if (this.channel == null && (long) length * minElementSize > this.buffer.remaining()) {
+            throw new EOFException("Length " + length + " exceeds the remaining " + this.buffer.remaining() + " bytes");
+        }
+        return length;
+    }
+
+    /**
+     * Checks the nesting depth of a view or list, so that malformed data
+     * can't make the reader overflow the stack.
+     *
+     * @param depth The depth, 0 for the container itself
+     */
+    private static void checkDepth(int depth) throws StreamCorruptedException {
+        if (depth > MAX_DEPTH) {
+            throw new StreamCorruptedException("Nesting exceeds the max depth " + MAX_DEPTH);
+        }
+    }
+
+    private int readSignedVarInt() throws IOException {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            require(1);
+            byte b = this.buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("VarInt is too long");
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            require(1);
+            byte b = this.buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("VarLong is too long");
+    }
+
+    private void readBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            require(1);
+            int length = Math.min(this.buffer.remaining(), bytes.length - offset);
+            this.buffer.get(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void require(int bytes) throws IOException {
+        if (!fill(bytes)) {
+            throw new EOFException("Unexpected end of binary data");
+        }
+    }
+
+    /**
+     * Makes sure the given number of bytes is available in the buffer,
+     * reading from the channel if needed.
+     *
+     * @param bytes The number of bytes, at most the buffer size
+     * @return False if the end of the stream was reached first
+     */
+    private boolean fill(int bytes) throws IOException {
+        if (this.buffer.remaining() >= bytes) {
+            return true;
+        }
+        if (this.channel == null) {
+            return false;
+        }
+        this.buffer.compact();
+        try {
+            while (this.buffer.position() < bytes) {
+                if (this.channel.read(this.buffer) == -1) {
+                    return false;
+                }
+            }
+        } finally {
+            this.buffer.flip();
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.channel != null) {
+            this.channel.close();
+        }
+    }
+
+}
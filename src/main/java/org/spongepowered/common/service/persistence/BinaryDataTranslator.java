@@ -0,0 +1,91 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Throwables;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataTranslator;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.service.persistence.InvalidDataException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+/**
+ * Translates between {@link DataView}s and the compact binary data format of
+ * the {@link BinaryDataWriter}. Each translated buffer is a stream of its own,
+ * use the writer and the {@link BinaryDataReader} directly to store many
+ * containers in one stream.
+ */
+public final class BinaryDataTranslator implements DataTranslator<ByteBuffer> {
+
+    private static final BinaryDataTranslator instance = new BinaryDataTranslator();
+
+    public static BinaryDataTranslator getInstance() {
+        return instance;
+    }
+
+    private BinaryDataTranslator() {
+    }
+
+    @Override
+    public ByteBuffer translateData(DataView container) {
+        checkNotNull(container);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryDataWriter writer = new BinaryDataWriter(Channels.newChannel(out));
+        try {
+            writer.write(container);
+            writer.flush();
+        } catch (IOException e) {
+            // Can't happen when writing to memory
+            throw Throwables.propagate(e);
+        }
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    @Override
+    public void translateContainerToData(ByteBuffer node, DataView container) {
+        checkNotNull(node).put(translateData(container));
+    }
+
+    @Override
+    public DataContainer translateFrom(ByteBuffer node) {
+        try {
+            Optional<DataContainer> container = new BinaryDataReader(checkNotNull(node).duplicate()).read();
+            if (!container.isPresent()) {
+                throw new InvalidDataException("The buffer contains no data");
+            }
+            return container.get();
+        } catch (IOException e) {
+            throw new InvalidDataException("Couldn't read the binary data", e);
+        }
+    }
+
+}
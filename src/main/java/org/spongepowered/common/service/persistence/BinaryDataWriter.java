@@ -0,0 +1,260 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.common.service.persistence.BinaryDataFormat.*;
+
+import com.google.common.base.Charsets;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes {@link DataView}s in the binary data format to a blocking channel.
+ * Keys are interned for the whole stream, so writing many similar containers
+ * to one writer is much smaller than writing them separately.
+ */
+public final class BinaryDataWriter implements Closeable, Flushable {
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final TObjectIntMap<String> keys = new TObjectIntHashMap<String>(16, 0.5F, -1);
+    private boolean headerWritten;
+
+    public BinaryDataWriter(WritableByteChannel channel) {
+        this(channel, 8192);
+    }
+
+    public BinaryDataWriter(WritableByteChannel channel, int bufferSize) {
+        checkArgument(bufferSize >= 16, "The buffer size must be at least 16 bytes");
+        this.channel = checkNotNull(channel);
+        this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Writes the given view, including all its nested views.
+     *
+     * @param view The view to write
+     * @throws IOException If writing to the channel fails
+     * @throws IllegalArgumentException If the view contains a value that
+     *         can't be written
+     */
+    public void write(DataView view) throws IOException {
+        checkNotNull(view);
+        if (!this.headerWritten) {
+            ensure(5);
+            this.buffer.putInt(MAGIC);
+            this.buffer.put(VERSION);
+            this.headerWritten = true;
+        }
+        writeView(view);
+    }
+
+    private void writeView(DataView view) throws IOException {
+        writeEntries(view.getValues(false));
+    }
+
+    private void writeEntries(Map<?, ?> values) throws IOException {
+        writeLength(values.size());
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            Object key = entry.getKey();
+            writeKey(key instanceof DataQuery ? ((DataQuery) key).asString('.') : String.valueOf(key));
+            writeValue(checkNotNull(entry.getValue(), "value"));
+        }
+    }
+
+    private void writeKey(String key) throws IOException {
+        int index = this.keys.get(key);
+        if (index == -1) {
+            this.keys.put(key, this.keys.size());
+            writeVarInt(0);
+            writeString(key);
+        } else {
+            writeVarInt(index + 1);
+        }
+    }
+
+    private void writeValue(Object value) throws IOException {
+        ensure(1);
+        if (value instanceof Boolean) {
+            this.buffer.put(TAG_BOOLEAN);
+            ensure(1);
+            this.buffer.put((byte) ((Boolean) value ? 1 : 0));
+        } else if (value instanceof Byte) {
+            this.buffer.put(TAG_BYTE);
+            ensure(1);
+            this.buffer.put((Byte) value);
+        } else if (value instanceof Short) {
+            this.buffer.put(TAG_SHORT);
+            ensure(2);
+            this.buffer.putShort((Short) value);
+        } else if (value instanceof Integer) {
+            this.buffer.put(TAG_INT);
+            writeSignedVarInt((Integer) value);
+        } else if (value instanceof Long) {
+            this.buffer.put(TAG_LONG);
+            long longValue = (Long) value;
+            writeVarLong((longValue << 1) ^ (longValue >> 63));
+        } else if (value instanceof Float) {
+            this.buffer.put(TAG_FLOAT);
+            ensure(4);
+            this.buffer.putFloat((Float) value);
+        } else if (value instanceof Double) {
+            this.buffer.put(TAG_DOUBLE);
+            ensure(8);
+            this.buffer.putDouble((Double) value);
+        } else if (value instanceof String) {
+            this.buffer.put(TAG_STRING);
+            writeString((String) value);
+        } else if (value instanceof byte[]) {
+            this.buffer.put(TAG_BYTE_ARRAY);
+            byte[] array = (byte[]) value;
+            writeLength(array.length);
+            writeBytes(array);
+        } else if (value instanceof int[]) {
+            this.buffer.put(TAG_INT_ARRAY);
+            int[] array = (int[]) value;
+            writeLength(array.length);
+            for (int element : array) {
+                writeSignedVarInt(element);
+            }
+        } else if (value instanceof Byte[]) {
+            this.buffer.put(TAG_BOXED_BYTE_ARRAY);
+            Byte[] array = (Byte[]) value;
+            writeLength(array.length);
+            for (Byte element : array) {
+                ensure(1);
+                this.buffer.put(element);
+            }
+        } else if (value instanceof Integer[]) {
+            this.buffer.put(TAG_BOXED_INT_ARRAY);
+            Integer[] array = (Integer[]) value;
+            writeLength(array.length);
+            for (Integer element : array) {
+                writeSignedVarInt(element);
+            }
+        } else if (value instanceof List) {
+            this.buffer.put(TAG_LIST);
+            List<?> list = (List<?>) value;
+            writeLength(list.size());
+            for (Object element : list) {
+                writeValue(checkNotNull(element, "element"));
+            }
+        } else if (value instanceof Map) {
+            this.buffer.put(TAG_VIEW);
+            writeEntries((Map<?, ?>) value);
+        } else if (value instanceof DataSerializable) {
+            this.buffer.put(TAG_VIEW);
+            writeView(((DataSerializable) value).toContainer());
+        } else if (value instanceof DataView) {
+            this.buffer.put(TAG_VIEW);
+            writeView((DataView) value);
+        } else {
+            throw new IllegalArgumentException("Unable to write object of type " + value.getClass().getName());
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(Charsets.UTF_8);
+        writeLength(bytes.length);
+        writeBytes(bytes);
+    }
+
+    private void writeLength(int length) throws IOException {
+        checkArgument(length <= MAX_LENGTH, "Unable to write more than %s elements", MAX_LENGTH);
+        writeVarInt(length);
+    }
+
+    private void writeSignedVarInt(int value) throws IOException {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        ensure(5);
+        while ((value & ~0x7F) != 0) {
+            this.buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        this.buffer.put((byte) value);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            this.buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        this.buffer.put((byte) value);
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!this.buffer.hasRemaining()) {
+                flush();
+            }
+            int length = Math.min(this.buffer.remaining(), bytes.length - offset);
+            this.buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (this.buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+}
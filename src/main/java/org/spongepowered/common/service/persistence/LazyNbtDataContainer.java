@@ -0,0 +1,162 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.persistence;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Sets;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link DataContainer} backed by an {@link NBTTagCompound}. The tags of
+ * the compound are only translated when their key is first accessed, and
+ * untouched tags are copied as they are when the container is translated
+ * back to NBT.
+ *
+ * <p>The compound must not be modified while the container is in use. Only
+ * use it internally, a {@link MemoryDataContainer} never equals it.</p>
+ */
+final class LazyNbtDataContainer extends MemoryDataContainer {
+
+    private final NBTTagCompound compound;
+    private final Set<String> pending;
+
+    @SuppressWarnings("unchecked")
+    LazyNbtDataContainer(NBTTagCompound compound) {
+        this.compound = compound;
+        this.pending = Sets.newHashSet((Set<String>) compound.getKeySet());
+        for (String key : (Set<String>) compound.getKeySet()) {
+            // Keys with separators end up as nested paths, so they can't be
+            // looked up by their first part
+            if (key.indexOf('.') != -1) {
+                materialize(key);
+            }
+        }
+    }
+
+    private void materialize(String key) {
+        if (this.pending.remove(key)) {
+            NBTBase base = this.compound.getTag(key);
+            NbtTranslator.setInternal(base, base.getId(), this, key);
+        }
+    }
+
+    private void materialize(DataQuery path) {
+        if (!this.pending.isEmpty()) {
+            List<String> parts = path.getParts();
+            if (!parts.isEmpty()) {
+                materialize(parts.get(0));
+            }
+        }
+    }
+
+    private void materializeAll() {
+        while (!this.pending.isEmpty()) {
+            materialize(this.pending.iterator().next());
+        }
+    }
+
+    /**
+     * Writes this container to the given compound, copying the tags that
+     * were never accessed.
+     *
+     * @param target The compound to write to
+     */
+    void writeTo(NBTTagCompound target) {
+        for (String key : this.pending) {
+            target.setTag(key, this.compound.getTag(key).copy());
+        }
+        NbtTranslator.writeValues(super.getValues(false), target);
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        materialize(path);
+        return super.contains(path);
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        materialize(path);
+        return super.get(path);
+    }
+
+    @Override
+    public DataContainer set(DataQuery path, Object value) {
+        materialize(path);
+        return super.set(path, value);
+    }
+
+    @Override
+    public DataContainer remove(DataQuery path) {
+        materialize(path);
+        return super.remove(path);
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        materialize(path);
+        return super.createView(path);
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        materializeAll();
+        return super.getKeys(deep);
+    }
+
+    @Override
+    public Map<DataQuery, Object> getValues(boolean deep) {
+        materializeAll();
+        return super.getValues(deep);
+    }
+
+    @Override
+    public int hashCode() {
+        materializeAll();
+        return super.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        materializeAll();
+        return super.equals(obj);
+    }
+
+    @Override
+    public String toString() {
+        materializeAll();
+        return super.toString();
+    }
+
+}
@@ -75,16 +75,16 @@ private static void containerToCompound(final DataView container, final NBTTagCo
         // from the instance of checks.
         checkNotNull(container);
         checkNotNull(compound);
-        for (Map.Entry<DataQuery, Object> entry : container.getValues(false).entrySet()) {
-            Object value = entry.getValue();
-            String key = entry.getKey().asString('.');
-            if (value instanceof DataView) {
-                NBTTagCompound inner = new NBTTagCompound();
-                containerToCompound(container.getView(entry.getKey()).get(), inner);
-                compound.setTag(key, inner);
-            } else {
-                compound.setTag(key, getBaseFromObject(value));
-            }
+        if (container instanceof LazyNbtDataContainer) {
+            ((LazyNbtDataContainer) container).writeTo(compound);
+        } else {
+            writeValues(container.getValues(false), compound);
+        }
+    }
+
+    static void writeValues(Map<DataQuery, Object> values, NBTTagCompound compound) {
+        for (Map.Entry<DataQuery, Object> entry : values.entrySet()) {
+            compound.setTag(entry.getKey().asString('.'), getBaseFromObject(entry.getValue()));
         }
     }
 
@@ -105,6 +105,10 @@ private static NBTBase getBaseFromObject(Object value) {
             return new NBTTagDouble((Double) value);
         } else if (value instanceof String) {
             return new NBTTagString((String) value);
+        } else if (value instanceof byte[]) {
+            return new NBTTagByteArray(((byte[]) value).clone());
+        } else if (value instanceof int[]) {
+            return new NBTTagIntArray(((int[]) value).clone());
         } else if (value instanceof Byte[]) {
             byte[] array = new byte[((Byte[]) value).length];
             int counter = 0;
@@ -154,7 +158,7 @@ private static DataContainer getViewFromCompound(NBTTagCompound compound) {
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static void setInternal(NBTBase base, byte type, DataView view, String key) {
+    static void setInternal(NBTBase base, byte type, DataView view, String key) {
         checkNotNull(base);
         checkNotNull(view);
         checkNotNull(key);
@@ -254,4 +258,20 @@ public void translateContainerToData(NBTTagCompound node, DataView container) {
     public DataContainer translateFrom(NBTTagCompound node) {
         return NbtTranslator.getViewFromCompound(node);
     }
+
+    /**
+     * Translates the given compound into a {@link DataContainer} that only
+     * translates the tags that are accessed. The compound must not be modified
+     * afterwards, hand over a copy if it is still in use.
+     *
+     * <p>The container doesn't compare equal to a {@link MemoryDataContainer}
+     * with the same values, so it must not be handed out through the API, use
+     * {@link #translateFrom(NBTTagCompound)} there.</p>
+     *
+     * @param node The compound
+     * @return The container
+     */
+    public DataContainer translateFromLazily(NBTTagCompound node) {
+        return new LazyNbtDataContainer(checkNotNull(node));
+    }
 }
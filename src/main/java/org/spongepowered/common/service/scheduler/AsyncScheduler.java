@@ -24,13 +24,20 @@
  */
 package org.spongepowered.common.service.scheduler;
 
-import org.spongepowered.api.service.scheduler.Task;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.spongepowered.common.Sponge;
+import org.spongepowered.common.configuration.SpongeConfig;
 
-import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -39,12 +46,13 @@ public class AsyncScheduler extends SchedulerBase {
 
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
     // Locking mechanism
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private ExecutorService executor;
+    // The bounded thread pooling executor of asynchronous tasks.
+    private volatile ThreadPoolExecutor executor;
+    // The number of tasks run and the time spent running them per plugin id
+    private final ConcurrentMap<String, PluginUsage> pluginUsage = Maps.newConcurrentMap();
 
     AsyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
@@ -62,49 +70,37 @@ public void run() {
     }
 
     private void mainLoop() {
-        this.executor = Executors.newCachedThreadPool();
-        this.lastProcessingTimestamp = System.currentTimeMillis();
+        this.executor = createExecutor(Sponge.getGlobalConfig().getConfig().getScheduler());
         while (true) {
-            recalibrateMinimumTimeout();
             this.runTick();
         }
     }
 
+    private static ThreadPoolExecutor createExecutor(SpongeConfig.SchedulerCategory config) {
+        // Neither policy runs tasks on the scheduler thread
+        RejectedExecutionHandler saturationPolicy;
+        if ("discard-oldest".equalsIgnoreCase(config.getAsyncSaturationPolicy())) {
+            saturationPolicy = new DiscardOldestPolicy();
+        } else {
+            saturationPolicy = new ThreadPoolExecutor.AbortPolicy();
+        }
+
+        // Core and max size are the same so a new thread is started for each
+        // task until the pool is full, only then tasks wait in the queue.
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(config.getAsyncPoolSize(), config.getAsyncPoolSize(), 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(config.getAsyncQueueCapacity()),
+                new ThreadFactoryBuilder().setNameFormat("Sponge Async Scheduler Worker #%d").setDaemon(true).build(), saturationPolicy);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            Set<Task> tasks = this.getScheduledTasks();
+        // Wait until the next task is due, new tasks signal the condition
+        long nextDueTime = this.getNextDueTime();
+        if (nextDueTime == Long.MAX_VALUE) {
             this.minimumTimeout = Long.MAX_VALUE;
-            long now = System.currentTimeMillis();
-            for (Task tmpTask : tasks) {
-                ScheduledTask task = (ScheduledTask) tmpTask;
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.offset == 0 && task.period == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.offset > 0 && task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an offset and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.offset - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.period > 0 && task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.period - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.currentTimeMillis() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
+        } else {
+            this.minimumTimeout = Math.max(0, nextDueTime - System.currentTimeMillis());
         }
     }
 
@@ -112,28 +108,153 @@ private void recalibrateMinimumTimeout() {
     protected void preTick() {
         this.lock.lock();
         try {
-            this.condition.await(this.minimumTimeout, TimeUnit.MILLISECONDS);
+            // Recalibrate while holding the lock, so no new task can be added
+            // between calculating the timeout and waiting.
+            this.recalibrateMinimumTimeout();
+            if (this.minimumTimeout > 0) {
+                this.condition.await(this.minimumTimeout, TimeUnit.MILLISECONDS);
+            }
         } catch (InterruptedException ignored) {
             // The taskMap has been modified; there is work to do.
             // Continue on without handling the Exception.
         } catch (IllegalMonitorStateException e) {
             Sponge.getLogger().error("The scheduler internal state machine suffered a catastrophic error", e);
+        } finally {
+            // Tasks are processed without holding the lock, adding tasks
+            // must not block on the executor.
+            this.lock.unlock();
         }
     }
 
     @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.currentTimeMillis();
+    protected void executeTaskRunnable(final ScheduledTask task, final Runnable runnable) {
+        try {
+            this.executor.execute(new TaskRunnable(task, runnable));
+        } catch (RejectedExecutionException e) {
+            Sponge.getLogger().error("The async scheduler is saturated, dropped the task {} owned by {}", task.getName(), task.getOwner(), e);
+        }
     }
 
-    @Override
-    protected void finallyPostTick() {
-        this.lock.unlock();
+    private final class TaskRunnable implements Runnable {
+
+        final ScheduledTask task;
+        private final Runnable runnable;
+
+        TaskRunnable(ScheduledTask task, Runnable runnable) {
+            this.task = task;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            // Tag the worker with the plugin owning the task, for thread dumps
+            Thread thread = Thread.currentThread();
+            String name = thread.getName();
+            thread.setName(name + " [" + this.task.getOwner().getId() + "]");
+            long start = System.nanoTime();
+            try {
+                this.runnable.run();
+            } finally {
+                getPluginUsage(this.task.getOwner().getId()).add(System.nanoTime() - start);
+                thread.setName(name);
+            }
+        }
     }
 
-    @Override
-    protected void executeTaskRunnable(Runnable runnable) {
-        this.executor.submit(runnable);
+    /**
+     * Drops the task that waited longest to make room for the new one,
+     * instead of running either on the scheduler thread.
+     */
+    private static final class DiscardOldestPolicy implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("The async scheduler is shut down");
+            }
+            Runnable oldest = executor.getQueue().poll();
+            if (oldest instanceof TaskRunnable) {
+                ScheduledTask task = ((TaskRunnable) oldest).task;
+                Sponge.getLogger().error("The async scheduler is saturated, dropped the task {} owned by {}", task.getName(), task.getOwner());
+            }
+            executor.execute(runnable);
+        }
+    }
+
+    private PluginUsage getPluginUsage(String pluginId) {
+        PluginUsage usage = this.pluginUsage.get(pluginId);
+        if (usage == null) {
+            PluginUsage existing = this.pluginUsage.putIfAbsent(pluginId, usage = new PluginUsage());
+            if (existing != null) {
+                usage = existing;
+            }
+        }
+        return usage;
+    }
+
+    /**
+     * Gets the number of tasks waiting for a free worker thread.
+     *
+     * @return The queue depth
+     */
+    public int getQueueSize() {
+        ThreadPoolExecutor executor = this.executor;
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    /**
+     * Gets the approximate number of worker threads running a task.
+     *
+     * @return The active count
+     */
+    public int getActiveCount() {
+        ThreadPoolExecutor executor = this.executor;
+        return executor == null ? 0 : executor.getActiveCount();
+    }
+
+    /**
+     * Gets the current number of worker threads.
+     *
+     * @return The pool size
+     */
+    public int getPoolSize() {
+        ThreadPoolExecutor executor = this.executor;
+        return executor == null ? 0 : executor.getPoolSize();
+    }
+
+    /**
+     * Gets the number of tasks run and the time spent running them per
+     * plugin id.
+     *
+     * @return The usage by plugin id
+     */
+    public Map<String, PluginUsage> getPluginUsage() {
+        return ImmutableMap.copyOf(this.pluginUsage);
+    }
+
+    public static final class PluginUsage {
+
+        private final AtomicLong tasks = new AtomicLong();
+        private final AtomicLong time = new AtomicLong();
+
+        void add(long nanos) {
+            this.tasks.incrementAndGet();
+            this.time.addAndGet(nanos);
+        }
+
+        public long getTasks() {
+            return this.tasks.get();
+        }
+
+        /**
+         * Gets the total time spent running tasks in nanoseconds.
+         *
+         * @return The total time
+         */
+        public long getTime() {
+            return this.time.get();
+        }
+
     }
 
     @Override
@@ -42,6 +42,11 @@ public class ScheduledTask implements Task {
     private final PluginContainer owner;
     private final Runnable runnableBody;
     private long timestamp;
+    // The time the task is next due, and whether it is counted in ticks; maintained by the scheduler
+    long dueTime;
+    boolean dueInTicks;
+    // The tick the task became due when it has to wait for the tick budget of the sync scheduler
+    long deferredSince;
     private ScheduledTaskState state;
     private final UUID id;
     private final String name;
@@ -110,6 +115,7 @@ public boolean cancel() {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        SpongeScheduler.getInstance().cancel(this);
         return success;
     }
 
@@ -31,14 +31,37 @@
 import org.spongepowered.api.service.scheduler.Task;
 import org.spongepowered.common.Sponge;
 
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 abstract class SchedulerBase {
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    private static final Comparator<ScheduledTask> DUE_ORDER = new Comparator<ScheduledTask>() {
+
+        @Override
+        public int compare(ScheduledTask task1, ScheduledTask task2) {
+            return task1.dueTime < task2.dueTime ? -1 : (task1.dueTime == task2.dueTime ? 0 : 1);
+        }
+    };
+
+    // Cancelled tasks are only purged from the queues once there are at least this many
+    private static final int PURGE_THRESHOLD = 256;
+
+    // All pending (and running) ScheduledTasks, for lookups
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // Tasks added since the last tick, tasks can be added from any thread
+    private final Queue<ScheduledTask> incoming = new ConcurrentLinkedQueue<ScheduledTask>();
+    // The pending tasks ordered by the time they are due, only accessed by the thread processing the tasks
+    private final PriorityQueue<ScheduledTask> wallClockQueue = new PriorityQueue<ScheduledTask>(11, DUE_ORDER);
+    private final PriorityQueue<ScheduledTask> tickQueue = new PriorityQueue<ScheduledTask>(11, DUE_ORDER);
+    private final AtomicInteger cancelledTasks = new AtomicInteger();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -51,15 +74,35 @@ protected String nextName(PluginContainer plugin) {
     }
 
     /**
-     * Gets the timestamp to update the timestamp of a task. This method is task
-     * sensitive to support different timestamp types i.e. wall clock and ticks.
+     * Gets whether the timestamp of a task is counted in ticks. This method is
+     * task sensitive to support different timestamp types i.e. wall clock and
+     * ticks.
+     *
+     * @param task The task
+     * @return Whether the timestamp is counted in ticks
+     */
+    protected boolean isTickTimestamp(ScheduledTask task) {
+        // Supports wall clock time by default
+        return false;
+    }
+
+    /**
+     * Gets the current tick, for schedulers that support tick based tasks.
+     *
+     * @return The current tick
+     */
+    protected long getCurrentTick() {
+        return 0L;
+    }
+
+    /**
+     * Gets the timestamp to update the timestamp of a task.
      *
      * @param task The task
      * @return Timestamp for the task
      */
     protected long getTimestamp(ScheduledTask task) {
-        // Supports wall clock time by default
-        return System.currentTimeMillis();
+        return this.isTickTimestamp(task) ? this.getCurrentTick() : System.currentTimeMillis();
     }
 
     /**
@@ -69,8 +112,12 @@ protected long getTimestamp(ScheduledTask task) {
      * @param task The task to add
      */
     protected void addTask(ScheduledTask task) {
-        task.setTimestamp(this.getTimestamp(task));
+        long now = this.getTimestamp(task);
+        task.setTimestamp(now);
+        task.dueTime = now + task.offset;
+        task.dueInTicks = this.isTickTimestamp(task);
         this.taskMap.put(task.getUniqueId(), task);
+        this.incoming.add(task);
     }
 
     /**
@@ -82,6 +129,18 @@ protected void removeTask(ScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
     }
 
+    /**
+     * Removes a cancelled task from the task map. It is removed from the
+     * queues once it is due, or when too many cancelled tasks accumulated.
+     *
+     * @param task The cancelled task
+     */
+    void cancelTask(ScheduledTask task) {
+        if (this.taskMap.remove(task.getUniqueId()) != null) {
+            this.cancelledTasks.incrementAndGet();
+        }
+    }
+
     protected Optional<Task> getTask(UUID id) {
         return Optional.<Task>fromNullable(this.taskMap.get(id));
     }
@@ -93,20 +152,73 @@ protected Set<Task> getScheduledTasks() {
     }
 
     /**
-     * Process all tasks in the map.
+     * Gets the wall clock time the next pending task is due. Must only be
+     * called from the thread processing the tasks.
+     *
+     * @return The time in milliseconds, or {@link Long#MAX_VALUE} if there
+     *     are no pending tasks
+     */
+    protected long getNextDueTime() {
+        this.pollIncoming();
+        ScheduledTask next = this.wallClockQueue.peek();
+        return next == null ? Long.MAX_VALUE : next.dueTime;
+    }
+
+    private void pollIncoming() {
+        ScheduledTask task;
+        while ((task = this.incoming.poll()) != null) {
+            (task.dueInTicks ? this.tickQueue : this.wallClockQueue).add(task);
+        }
+
+        if (this.cancelledTasks.get() >= PURGE_THRESHOLD) {
+            this.cancelledTasks.set(0);
+            purgeCancelled(this.wallClockQueue);
+            purgeCancelled(this.tickQueue);
+        }
+    }
+
+    private static void purgeCancelled(Queue<ScheduledTask> queue) {
+        Iterator<ScheduledTask> it = queue.iterator();
+        while (it.hasNext()) {
+            if (it.next().getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Process all tasks that are due. Only the due tasks are touched, all
+     * other tasks wait in queues ordered by the time they are due.
      */
     protected final void runTick() {
         this.preTick();
         try {
-            for (ScheduledTask task : this.taskMap.values()) {
-                this.processTask(task);
-            }
+            this.pollIncoming();
+            this.processQueue(this.tickQueue, this.getCurrentTick());
+            this.processQueue(this.wallClockQueue, System.currentTimeMillis());
             this.postTick();
         } finally {
             this.finallyPostTick();
         }
     }
 
+    private void processQueue(PriorityQueue<ScheduledTask> queue, long now) {
+        ScheduledTask task;
+        while ((task = queue.peek()) != null && task.dueTime <= now) {
+            queue.poll();
+            this.onTaskDue(task);
+        }
+    }
+
+    /**
+     * Fired when a task is due, processes it right away by default.
+     *
+     * @param task The task that is due
+     */
+    protected void onTaskDue(ScheduledTask task) {
+        this.processTask(task);
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -127,7 +239,7 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task that is due.
      *
      * @param task The task to process
      */
@@ -135,41 +247,58 @@ protected void processTask(ScheduledTask task) {
         // If the task is now slated to be cancelled, we just remove it as if it
         // no longer exists.
         if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
-            this.removeTask(task);
+            this.dropCancelled(task);
             return;
         }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (period) of the repeating task parameter.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.offset;
-        } else if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.period;
-        }
-        // This moment is 'now'
+        // From now on the task is timed by its period
+        task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
         long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
+        task.setTimestamp(now);
+        startTask(task);
         // If the task has a period of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setTimestamp(now);
-            startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.period == 0L) {
-                this.removeTask(task);
-            }
+        // is removed after we start it. Repeating tasks are queued again.
+        if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            this.dropCancelled(task);
+        } else if (task.period == 0L) {
+            this.removeTask(task);
+        } else {
+            task.dueTime = now + task.period;
+            task.dueInTicks = this.isTickTimestamp(task);
+            (task.dueInTicks ? this.tickQueue : this.wallClockQueue).add(task);
         }
     }
 
+    /**
+     * Removes a cancelled task that was taken off the queues, it no longer
+     * counts towards the purge threshold.
+     *
+     * @param task The cancelled task
+     */
+    private void dropCancelled(ScheduledTask task) {
+        this.removeTask(task);
+        // The counter is reset by a purge, so never let it go negative
+        int count;
+        do {
+            count = this.cancelledTasks.get();
+        } while (count > 0 && !this.cancelledTasks.compareAndSet(count, count - 1));
+    }
+
+    /**
+     * Gets the number of cancelled tasks that are still queued.
+     *
+     * @return The number of cancelled tasks
+     */
+    int getCancelledCount() {
+        return this.cancelledTasks.get();
+    }
+
     /**
      * Begin the execution of a task. Exceptions are caught and logged.
      *
      * @param task The task to start
      */
     protected void startTask(final ScheduledTask task) {
-        this.executeTaskRunnable(new Runnable() {
+        this.executeTaskRunnable(task, new Runnable() {
 
             @Override
             public void run() {
@@ -187,8 +316,9 @@ public void run() {
     /**
      * Actually run the runnable of a task.
      *
+     * @param task The task the runnable belongs to
      * @param runnable The runnable to run
      */
-    protected abstract void executeTaskRunnable(Runnable runnable);
+    protected abstract void executeTaskRunnable(ScheduledTask task, Runnable runnable);
 
 }
@@ -38,6 +38,7 @@
 import java.util.Iterator;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -47,6 +48,15 @@ public class SpongeScheduler implements SchedulerService {
 
     private final AsyncScheduler asyncScheduler;
     private final SyncScheduler syncScheduler;
+    private final Executor syncExecutor = new Executor() {
+
+        @Override
+        public void execute(Runnable command) {
+            PluginContainer plugin = Sponge.getPlugin();
+            submit(new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, checkNotNull(command, "command"),
+                    getNameFor(plugin, ScheduledTask.TaskSynchronicity.SYNCHRONOUS), 0L, true, 0L, true, plugin));
+        }
+    };
 
     private SpongeScheduler() {
         this.asyncScheduler = new AsyncScheduler();
@@ -155,6 +165,27 @@ void submit(ScheduledTask task) {
         getDelegate(task).addTask(task);
     }
 
+    void cancel(ScheduledTask task) {
+        getDelegate(task).cancelTask(task);
+    }
+
+    /**
+     * Gets an executor that runs tasks on the main thread during the next tick.
+     *
+     * @return The synchronous executor
+     */
+    public Executor getSyncExecutor() {
+        return this.syncExecutor;
+    }
+
+    public AsyncScheduler getAsyncScheduler() {
+        return this.asyncScheduler;
+    }
+
+    public SyncScheduler getSyncScheduler() {
+        return this.syncScheduler;
+    }
+
     /**
      * Ticks the synchronous scheduler.
      */
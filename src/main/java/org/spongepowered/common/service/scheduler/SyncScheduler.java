@@ -24,13 +24,50 @@
  */
 package org.spongepowered.common.service.scheduler;
 
+import com.google.common.collect.Maps;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.Sponge;
+import org.spongepowered.common.configuration.SpongeConfig;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 public class SyncScheduler extends SchedulerBase {
 
     // The number of ticks elapsed since this scheduler began.
     private volatile long counter = 0L;
 
+    // Due tasks waiting for the tick budget, per plugin in the order the plugins take turns
+    private final Map<PluginContainer, ArrayDeque<ScheduledTask>> deferredTasks = Maps.newLinkedHashMap();
+    private int deferredCount;
+    // The tick budget in nanoseconds, read from the global config once it changed
+    private final boolean configuredTickBudget;
+    private int tickBudgetGeneration = -1;
+    private long tickBudget;
+    private long tickStart;
+
+    // Metrics of tasks deferred due to the tick budget
+    private long totalDeferred;
+    private long totalDeferredTicks;
+    private long maxDeferredTicks;
+
     SyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.SYNCHRONOUS);
+        this.configuredTickBudget = true;
+    }
+
+    /**
+     * Creates a scheduler with a fixed tick budget, independent of the
+     * global config.
+     *
+     * @param tickBudget The tick budget in milliseconds, 0 to disable
+     */
+    SyncScheduler(long tickBudget) {
+        super(ScheduledTask.TaskSynchronicity.SYNCHRONOUS);
+        this.configuredTickBudget = false;
+        this.tickBudget = TimeUnit.MILLISECONDS.toNanos(tickBudget);
     }
 
     /**
@@ -42,27 +79,113 @@ void tick() {
     }
 
     @Override
-    protected long getTimestamp(ScheduledTask task) {
+    protected void preTick() {
+        this.tickStart = System.nanoTime();
+        if (this.configuredTickBudget) {
+            int generation = SpongeConfig.getGeneration();
+            if (generation != this.tickBudgetGeneration) {
+                this.tickBudgetGeneration = generation;
+                this.tickBudget = TimeUnit.MILLISECONDS.toNanos(Sponge.getGlobalConfig().getConfig().getScheduler().getSyncTickBudget());
+            }
+        }
+    }
+
+    @Override
+    protected void onTaskDue(ScheduledTask task) {
+        if (this.tickBudget <= 0 && this.deferredCount == 0) {
+            this.processTask(task);
+            return;
+        }
+
+        task.deferredSince = this.counter;
+        ArrayDeque<ScheduledTask> tasks = this.deferredTasks.get(task.getOwner());
+        if (tasks == null) {
+            this.deferredTasks.put(task.getOwner(), tasks = new ArrayDeque<ScheduledTask>());
+        }
+        tasks.add(task);
+        this.deferredCount++;
+    }
+
+    @Override
+    protected void postTick() {
+        // Plugins take turns running one task each until the budget is spent,
+        // a plugin that still has tasks left queues up again at the end.
+        // At least one task runs each tick so deferred tasks always progress.
+        while (this.deferredCount > 0) {
+            Iterator<Map.Entry<PluginContainer, ArrayDeque<ScheduledTask>>> it = this.deferredTasks.entrySet().iterator();
+            Map.Entry<PluginContainer, ArrayDeque<ScheduledTask>> entry = it.next();
+            it.remove();
+
+            ScheduledTask task = entry.getValue().poll();
+            if (!entry.getValue().isEmpty()) {
+                this.deferredTasks.put(entry.getKey(), entry.getValue());
+            }
+            this.deferredCount--;
+
+            long deferredTicks = this.counter - task.deferredSince;
+            if (deferredTicks > 0) {
+                this.totalDeferred++;
+                this.totalDeferredTicks += deferredTicks;
+                this.maxDeferredTicks = Math.max(this.maxDeferredTicks, deferredTicks);
+            }
+            this.processTask(task);
+
+            if (this.tickBudget > 0 && System.nanoTime() - this.tickStart >= this.tickBudget) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of due tasks waiting for the tick budget.
+     *
+     * @return The number of deferred tasks
+     */
+    public int getDeferredCount() {
+        return this.deferredCount;
+    }
+
+    /**
+     * Gets the number of tasks that ran at least one tick late due to the
+     * tick budget.
+     *
+     * @return The number of deferred tasks
+     */
+    public long getTotalDeferred() {
+        return this.totalDeferred;
+    }
+
+    /**
+     * Gets the sum of the ticks deferred tasks ran late.
+     *
+     * @return The total deferred ticks
+     */
+    public long getTotalDeferredTicks() {
+        return this.totalDeferredTicks;
+    }
+
+    public long getMaxDeferredTicks() {
+        return this.maxDeferredTicks;
+    }
+
+    @Override
+    protected boolean isTickTimestamp(ScheduledTask task) {
         if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
             // The timestamp is based on the initial offset
-            if (task.delayIsTicks) {
-                return this.counter;
-            } else {
-                return super.getTimestamp(task);
-            }
-        } else if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
+            return task.delayIsTicks;
+        } else {
             // The timestamp is based on the period
-            if (task.intervalIsTicks) {
-                return this.counter;
-            } else {
-                return super.getTimestamp(task);
-            }
+            return task.intervalIsTicks;
         }
-        return 0L;
     }
 
     @Override
-    protected void executeTaskRunnable(Runnable runnable) {
+    protected long getCurrentTick() {
+        return this.counter;
+    }
+
+    @Override
+    protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         runnable.run();
     }
 
@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.text.sink;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.play.server.S02PacketChat;
+import org.spongepowered.api.entity.player.Player;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.chat.ChatTypes;
+import org.spongepowered.api.text.sink.MessageSink;
+import org.spongepowered.api.util.command.CommandSource;
+import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.text.chat.SpongeChatType;
+import org.spongepowered.common.util.PacketBroadcast;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Base class of the message sinks, which sends a message to all players that
+ * receive the same text in the same locale with a single encoded packet.
+ */
+public abstract class SpongeMessageSink extends MessageSink {
+
+    @Override
+    public void sendMessage(Text text) {
+        Map<Text, Map<Locale, List<EntityPlayerMP>>> groups = new IdentityHashMap<Text, Map<Locale, List<EntityPlayerMP>>>();
+        for (CommandSource recipient : getRecipients()) {
+            Text message = transformMessage(recipient, text);
+            if (message == null) {
+                continue;
+            }
+            if (!(recipient instanceof EntityPlayerMP)) {
+                recipient.sendMessage(message);
+                continue;
+            }
+
+            Map<Locale, List<EntityPlayerMP>> locales = groups.get(message);
+            if (locales == null) {
+                groups.put(message, locales = Maps.newHashMap());
+            }
+            Locale locale = ((Player) recipient).getLocale();
+            List<EntityPlayerMP> players = locales.get(locale);
+            if (players == null) {
+                locales.put(locale, players = Lists.newArrayList());
+            }
+            players.add((EntityPlayerMP) recipient);
+        }
+
+        byte type = ((SpongeChatType) ChatTypes.CHAT).getByteId();
+        for (Map.Entry<Text, Map<Locale, List<EntityPlayerMP>>> group : groups.entrySet()) {
+            for (Map.Entry<Locale, List<EntityPlayerMP>> players : group.getValue().entrySet()) {
+                S02PacketChat packet = new S02PacketChat(SpongeTexts.toComponent(group.getKey(), players.getKey()), type);
+                PacketBroadcast.sendToAll(players.getValue(), packet);
+            }
+        }
+    }
+
+}
@@ -58,7 +58,7 @@ public class SpongeMessageSinkFactory implements MessageSinkFactory {
 
     private SpongeMessageSinkFactory() {}
 
-    private static class PermissionSink extends MessageSink {
+    private static class PermissionSink extends SpongeMessageSink {
         private final String permission;
 
         private PermissionSink(String permission) {
@@ -93,7 +93,7 @@ public MessageSink toPermission(String permission) {
         return new PermissionSink(permission);
     }
 
-    private static class AllSink extends MessageSink {
+    private static class AllSink extends SpongeMessageSink {
         @Override
         public Iterable<CommandSource> getRecipients() {
             // TODO: Non-player subjects?
@@ -109,7 +109,7 @@ public MessageSink toAll() {
         return new AllSink();
     }
 
-    private static class CombinedSink extends MessageSink {
+    private static class CombinedSink extends SpongeMessageSink {
         private final Iterable<MessageSink> contents;
 
         private CombinedSink(Iterable<MessageSink> contents) {
@@ -145,7 +145,7 @@ public MessageSink combined(MessageSink... sinks) {
         return new CombinedSink(ImmutableList.copyOf(sinks));
     }
 
-    private static class FixedSink extends MessageSink {
+    private static class FixedSink extends SpongeMessageSink {
         private final Set<CommandSource> contents;
 
         private FixedSink(Set<CommandSource> provided) {
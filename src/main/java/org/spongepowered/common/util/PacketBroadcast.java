@@ -0,0 +1,102 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.EnumConnectionState;
+import net.minecraft.network.EnumPacketDirection;
+import net.minecraft.network.Packet;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.play.server.S02PacketChat;
+import org.spongepowered.common.interfaces.IMixinNetworkManager;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Sends one packet to many players, encoding it once and writing the same
+ * buffer to every connection.
+ */
+public final class PacketBroadcast {
+
+    private PacketBroadcast() {
+    }
+
+    /**
+     * Sends the given play packet to all the given players.
+     *
+     * @param players The players
+     * @param packet The packet
+     */
+    public static void sendToAll(Collection<EntityPlayerMP> players, Packet packet) {
+        if (players.size() < 2) {
+            for (EntityPlayerMP player : players) {
+                player.playerNetServerHandler.sendPacket(packet);
+            }
+            return;
+        }
+
+        ByteBuf payload = Unpooled.buffer();
+        try {
+            PacketBuffer buffer = new PacketBuffer(payload);
+            buffer.writeVarIntToBuffer(EnumConnectionState.PLAY.getPacketId(EnumPacketDirection.CLIENTBOUND, packet));
+            packet.writePacketData(buffer);
+        } catch (IOException e) {
+            // Let every connection fail on its own, as it would without this
+            payload.release();
+            for (EntityPlayerMP player : players) {
+                player.playerNetServerHandler.sendPacket(packet);
+            }
+            return;
+        }
+
+        try {
+            for (EntityPlayerMP player : players) {
+                if (isHiddenFrom(player, packet)) {
+                    continue;
+                }
+                if (!((IMixinNetworkManager) player.playerNetServerHandler.netManager).sendEncodedPacket(payload)) {
+                    player.playerNetServerHandler.sendPacket(packet);
+                }
+            }
+        } finally {
+            payload.release();
+        }
+    }
+
+    // Same check as NetHandlerPlayServer#sendPacket, which is skipped here
+    private static boolean isHiddenFrom(EntityPlayerMP player, Packet packet) {
+        if (packet instanceof S02PacketChat) {
+            EntityPlayer.EnumChatVisibility visibility = player.getChatVisibility();
+            return visibility == EntityPlayer.EnumChatVisibility.HIDDEN
+                    || visibility == EntityPlayer.EnumChatVisibility.SYSTEM && !((S02PacketChat) packet).isChat();
+        }
+        return false;
+    }
+
+}
@@ -42,6 +42,7 @@
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.common.Sponge;
 import org.spongepowered.common.configuration.SpongeConfig;
+import org.spongepowered.common.configuration.SpongeConfigSnapshot;
 import org.spongepowered.common.interfaces.IMixinWorld;
 import org.spongepowered.common.interfaces.IMixinWorldProvider;
 
@@ -80,9 +81,17 @@ public static void logStack(SpongeConfig<?> config) {
         }
     }
 
+    public static void logStack(SpongeConfigSnapshot config) {
+        if (config.logWithStackTraces()) {
+            Throwable ex = new Throwable();
+            ex.fillInStackTrace();
+            ex.printStackTrace();
+        }
+    }
+
     public static void logEntityDeath(Entity entity) {
-        SpongeConfig<?> config = getActiveConfig(entity.worldObj);
-        if (config.getConfig().getLogging().entityDeathLogging()) {
+        SpongeConfigSnapshot config = getActiveConfigSnapshot(entity.worldObj);
+        if (config.entityDeathLogging()) {
             logInfo("[" + config.getConfigName() + "] [" + config.getConfigName() + "] Dim: {0} setDead(): {1}",
                     entity.worldObj.provider.getDimensionId(), entity);
             logStack(config);
@@ -90,24 +99,24 @@ public static void logEntityDeath(Entity entity) {
     }
 
     public static void logEntityDespawn(Entity entity, String reason) {
-        SpongeConfig<?> config = getActiveConfig(entity.worldObj);
-        if (config.getConfig().getLogging().entityDespawnLogging()) {
+        SpongeConfigSnapshot config = getActiveConfigSnapshot(entity.worldObj);
+        if (config.entityDespawnLogging()) {
             logInfo("[" + config.getConfigName() + "] Dim: {0} Despawning ({1}): {2}", entity.worldObj.provider.getDimensionId(), reason, entity);
             logStack(config);
         }
     }
 
     public static void logEntitySpawn(Entity entity) {
-        SpongeConfig<?> config = getActiveConfig(entity.worldObj);
-        if (config.getConfig().getLogging().entitySpawnLogging()) {
+        SpongeConfigSnapshot config = getActiveConfigSnapshot(entity.worldObj);
+        if (config.entitySpawnLogging()) {
             logInfo("[" + config.getConfigName() + "] Dim: {0} Spawning: {1}", entity.worldObj.provider.getDimensionId(), entity);
             logStack(config);
         }
     }
 
     public static void logChunkLoad(World world, Vector3i chunkPos) {
-        SpongeConfig<?> config = getActiveConfig(world);
-        if (config.getConfig().getLogging().chunkLoadLogging()) {
+        SpongeConfigSnapshot config = getActiveConfigSnapshot(world);
+        if (config.chunkLoadLogging()) {
             logInfo("[" + config.getConfigName() + "] Load Chunk At [{0}] ({1}, {2})", world.provider.getDimensionId(), chunkPos.getX(),
                     chunkPos.getZ());
             logStack(config);
@@ -115,8 +124,8 @@ public static void logChunkLoad(World world, Vector3i chunkPos) {
     }
 
     public static void logChunkUnload(World world, Vector3i chunkPos) {
-        SpongeConfig<?> config = getActiveConfig(world);
-        if (config.getConfig().getLogging().chunkUnloadLogging()) {
+        SpongeConfigSnapshot config = getActiveConfigSnapshot(world);
+        if (config.chunkUnloadLogging()) {
             logInfo("[" + config.getConfigName() + "] Unload Chunk At [{0}] ({1}, {2})", world.provider.getDimensionId(), chunkPos.getX(),
                     chunkPos.getZ());
             logStack(config);
@@ -131,12 +140,12 @@ private static void logChunkLoadOverride(ChunkProviderServer provider, int x, in
     }
 
     public static boolean checkBoundingBoxSize(Entity entity, AxisAlignedBB aabb) {
-        SpongeConfig<?> config = getActiveConfig(entity.worldObj);
         if (!(entity instanceof EntityLivingBase) || entity instanceof EntityPlayer) {
             return false; // only check living entities that are not players
         }
 
-        int maxBoundingBoxSize = config.getConfig().getEntity().getMaxBoundingBoxSize();
+        SpongeConfigSnapshot config = getActiveConfigSnapshot(entity.worldObj);
+        int maxBoundingBoxSize = config.getMaxBoundingBoxSize();
         if (maxBoundingBoxSize <= 0) {
             return false;
         }
@@ -166,12 +175,12 @@ public static boolean checkBoundingBoxSize(Entity entity, AxisAlignedBB aabb) {
     }
 
     public static boolean checkEntitySpeed(Entity entity, double x, double y, double z) {
-        SpongeConfig<?> config = getActiveConfig(entity.worldObj);
-        int maxSpeed = config.getConfig().getEntity().getMaxSpeed();
+        SpongeConfigSnapshot config = getActiveConfigSnapshot(entity.worldObj);
+        int maxSpeed = config.getMaxSpeed();
         if (maxSpeed > 0) {
             double distance = x * x + z * z;
             if (distance > maxSpeed) {
-                if (config.getConfig().getLogging().logEntitySpeedRemoval()) {
+                if (config.logEntitySpeedRemoval()) {
                     logInfo("[" + config.getConfigName() + "] Speed violation: {0} was over {1} - Removing Entity: {2}", distance, maxSpeed, entity);
                     if (entity instanceof EntityLivingBase) {
                         EntityLivingBase livingBase = (EntityLivingBase) entity;
@@ -181,7 +190,7 @@ public static boolean checkEntitySpeed(Entity entity, double x, double y, double
                                 livingBase.moveStrafing, livingBase.moveForward);
                     }
 
-                    if (config.getConfig().getLogging().logWithStackTraces()) {
+                    if (config.logWithStackTraces()) {
                         logInfo("[" + config.getConfigName() + "] Move offset: ({0}, {1}, {2})", x, y, z);
                         logInfo("[" + config.getConfigName() + "] Motion: ({0}, {1}, {2})", entity.motionX, entity.motionY, entity.motionZ);
                         logInfo("[" + config.getConfigName() + "] Entity: {0}", entity);
@@ -208,11 +217,11 @@ public static boolean checkEntitySpeed(Entity entity, double x, double y, double
     // TODO - needs to be hooked
     @SuppressWarnings("rawtypes")
     public static void logEntitySize(Entity entity, List list) {
-        SpongeConfig<?> config = getActiveConfig(entity.worldObj);
-        if (!config.getConfig().getLogging().logEntityCollisionChecks()) {
+        SpongeConfigSnapshot config = getActiveConfigSnapshot(entity.worldObj);
+        if (!config.logEntityCollisionChecks()) {
             return;
         }
-        int collisionWarnSize = config.getConfig().getEntity().getMaxCollisionSize();
+        int collisionWarnSize = config.getMaxCollisionSize();
 
         if (list == null) {
             return;
@@ -283,6 +292,10 @@ public static void enableThreadContentionMonitoring() {
         mbean.setThreadContentionMonitoringEnabled(true);
     }
 
+    public static SpongeConfigSnapshot getActiveConfigSnapshot(World world) {
+        return ((IMixinWorld) world).getActiveConfigSnapshot();
+    }
+
     public static SpongeConfig<?> getActiveConfig(World world) {
         SpongeConfig<?> config = ((IMixinWorld) world).getWorldConfig();
         if (config.getConfig().isConfigEnabled()) {
@@ -40,13 +40,23 @@
  */
 public abstract class AbstractChunkBuffer implements MutableBlockBuffer {
 
-    private final int chunkX;
-    private final int chunkZ;
+    private int chunkX;
+    private int chunkZ;
 
-    private final Vector3i maxBlock;
-    private final Vector3i minBlock;
+    private Vector3i maxBlock;
+    private Vector3i minBlock;
 
     protected AbstractChunkBuffer(int chunkX, int chunkZ) {
+        setChunk(chunkX, chunkZ);
+    }
+
+    /**
+     * Moves this buffer to another chunk, for buffers that can be reused.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     */
+    protected void setChunk(int chunkX, int chunkZ) {
         this.chunkX = chunkX;
         this.chunkZ = chunkZ;
 
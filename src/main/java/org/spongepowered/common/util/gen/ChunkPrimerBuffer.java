@@ -46,6 +46,22 @@ public ChunkPrimerBuffer(ChunkPrimer chunkPrimer, int chunkX, int chunkZ) {
         this.chunkPrimer = chunkPrimer;
     }
 
+    /**
+     * Clears the chunk primer and moves this buffer to another chunk, so that
+     * both can be reused to generate that chunk.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     */
+    public void reuse(int chunkX, int chunkZ) {
+        Arrays.fill(this.chunkPrimer.data, (short) 0);
+        setChunk(chunkX, chunkZ);
+    }
+
+    public ChunkPrimer getChunkPrimer() {
+        return this.chunkPrimer;
+    }
+
     @Override
     public void fill(BlockState block) {
         @SuppressWarnings("deprecation")
@@ -52,6 +52,10 @@ public FastChunkBuffer(Chunk chunk) {
         this.sectionArray = chunk.getBlockStorageArray();
     }
 
+    public Chunk getChunk() {
+        return this.chunk;
+    }
+
     @Override
     public BlockState getBlock(int x, int y, int z) {
         this.checkRange(x, y, z);
@@ -0,0 +1,128 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.util.gen.ImmutableBlockBuffer;
+import org.spongepowered.common.util.VecHelper;
+
+import java.util.List;
+
+/**
+ * Immutable copy of a {@link PaletteBlockBuffer}, with the same layout of
+ * the blocks.
+ */
+public final class ImmutablePaletteBlockBuffer implements ImmutableBlockBuffer {
+
+    private final Vector3i minBlock;
+    private final Vector3i maxBlock;
+    private final Vector3i size;
+    private final ImmutableList<BlockState> palette;
+    private final char[] blocks;
+
+    /**
+     * Creates a buffer from a palette and the palette index of every block.
+     * Both are copied to ensure that the instance is immutable.
+     *
+     * @param minBlock The lowest block position
+     * @param size The size of the buffer
+     * @param palette The block states by palette index
+     * @param blocks The palette index of every block
+     */
+    public ImmutablePaletteBlockBuffer(Vector3i minBlock, Vector3i size, List<BlockState> palette, char[] blocks) {
+        this.minBlock = minBlock;
+        this.size = size;
+        this.maxBlock = minBlock.add(size).sub(Vector3i.ONE);
+        this.palette = ImmutableList.copyOf(palette);
+        this.blocks = blocks.clone();
+    }
+
+    private int getIndex(int x, int y, int z) {
+        if (!containsBlock(x, y, z)) {
+            throw new IndexOutOfBoundsException("Outside buffer: " + new Vector3i(x, y, z) + " is outside " + this.minBlock + " to "
+                    + this.maxBlock);
+        }
+        return ((y - this.minBlock.getY()) * this.size.getZ() + (z - this.minBlock.getZ())) * this.size.getX() + (x - this.minBlock.getX());
+    }
+
+    @Override
+    public BlockState getBlock(int x, int y, int z) {
+        return this.palette.get(this.blocks[getIndex(x, y, z)]);
+    }
+
+    @Override
+    public BlockState getBlock(Vector3i position) {
+        return getBlock(position.getX(), position.getY(), position.getZ());
+    }
+
+    @Override
+    public BlockType getBlockType(int x, int y, int z) {
+        return getBlock(x, y, z).getType();
+    }
+
+    @Override
+    public BlockType getBlockType(Vector3i position) {
+        return getBlockType(position.getX(), position.getY(), position.getZ());
+    }
+
+    @Override
+    public Vector3i getBlockMin() {
+        return this.minBlock;
+    }
+
+    @Override
+    public Vector3i getBlockMax() {
+        return this.maxBlock;
+    }
+
+    @Override
+    public Vector3i getBlockSize() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsBlock(Vector3i position) {
+        return containsBlock(position.getX(), position.getY(), position.getZ());
+    }
+
+    @Override
+    public boolean containsBlock(int x, int y, int z) {
+        return VecHelper.inBounds(x, y, z, this.minBlock, this.maxBlock);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("min", this.getBlockMin())
+                .add("max", this.getBlockMax())
+                .add("palette", this.palette.size())
+                .toString();
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.base.Objects;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.util.gen.ImmutableBlockBuffer;
+import org.spongepowered.api.util.gen.MutableBlockBuffer;
+import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.extent.BlockVisitor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buffer of any size that stores a palette of the block states it contains
+ * and one palette index per block.
+ *
+ * <p>Blocks are stored in y, z, x order, so the index of a block is
+ * {@code ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX)}. A new
+ * buffer is filled with air.</p>
+ */
+public final class PaletteBlockBuffer implements MutableBlockBuffer, BlockVisitor {
+
+    private final Vector3i minBlock;
+    private final Vector3i maxBlock;
+    private final Vector3i size;
+    private final List<BlockState> palette = Lists.newArrayList();
+    private final Map<BlockState, Integer> paletteIds = Maps.newIdentityHashMap();
+    private final char[] blocks;
+    private BlockState lastBlock;
+    private char lastBlockId;
+
+    public PaletteBlockBuffer(Vector3i minBlock, Vector3i size) {
+        this.minBlock = minBlock;
+        this.size = size;
+        this.maxBlock = minBlock.add(size).sub(Vector3i.ONE);
+        this.blocks = new char[size.getX() * size.getY() * size.getZ()];
+        getPaletteId(BlockTypes.AIR.getDefaultState());
+    }
+
+    private int getIndex(int x, int y, int z) {
+        if (!containsBlock(x, y, z)) {
+            throw new IndexOutOfBoundsException("Outside buffer: " + new Vector3i(x, y, z) + " is outside " + this.minBlock + " to "
+                    + this.maxBlock);
+        }
+        return ((y - this.minBlock.getY()) * this.size.getZ() + (z - this.minBlock.getZ())) * this.size.getX() + (x - this.minBlock.getX());
+    }
+
+    private char getPaletteId(BlockState block) {
+        // Volumes are mostly runs of the same block
+        if (block == this.lastBlock) {
+            return this.lastBlockId;
+        }
+        Integer id = this.paletteIds.get(block);
+        if (id == null) {
+            if (this.palette.size() > Character.MAX_VALUE) {
+                throw new IllegalStateException("Too many different block states in buffer");
+            }
+            id = this.palette.size();
+            this.palette.add(block);
+            this.paletteIds.put(block, id);
+        }
+        this.lastBlock = block;
+        this.lastBlockId = (char) id.intValue();
+        return this.lastBlockId;
+    }
+
+    /**
+     * Gets the block states used in this buffer, by palette index.
+     *
+     * @return The palette
+     */
+    public List<BlockState> getPalette() {
+        return Collections.unmodifiableList(this.palette);
+    }
+
+    /**
+     * Gets the palette index of every block, in the order described on this
+     * class. The array is shared with the buffer.
+     *
+     * @return The palette indexes
+     */
+    public char[] getPaletteIndexes() {
+        return this.blocks;
+    }
+
+    @Override
+    public void visit(int x, int y, int z, BlockState block) {
+        setBlock(x, y, z, block);
+    }
+
+    @Override
+    public BlockState getBlock(int x, int y, int z) {
+        return this.palette.get(this.blocks[getIndex(x, y, z)]);
+    }
+
+    @Override
+    public BlockState getBlock(Vector3i position) {
+        return getBlock(position.getX(), position.getY(), position.getZ());
+    }
+
+    @Override
+    public void setBlock(int x, int y, int z, BlockState block) {
+        this.blocks[getIndex(x, y, z)] = getPaletteId(block);
+    }
+
+    @Override
+    public void setBlock(Vector3i position, BlockState block) {
+        setBlock(position.getX(), position.getY(), position.getZ(), block);
+    }
+
+    @Override
+    public BlockType getBlockType(int x, int y, int z) {
+        return getBlock(x, y, z).getType();
+    }
+
+    @Override
+    public BlockType getBlockType(Vector3i position) {
+        return getBlockType(position.getX(), position.getY(), position.getZ());
+    }
+
+    @Override
+    public void setBlockType(int x, int y, int z, BlockType type) {
+        setBlock(x, y, z, type.getDefaultState());
+    }
+
+    @Override
+    public void setBlockType(Vector3i position, BlockType type) {
+        setBlockType(position.getX(), position.getY(), position.getZ(), type);
+    }
+
+    @Override
+    public void setHorizontalLayer(int startY, int height, BlockState block) {
+        int layerSize = this.size.getX() * this.size.getZ();
+        int from = Math.max(0, startY - this.minBlock.getY());
+        int to = Math.min(this.size.getY(), startY + height - this.minBlock.getY());
+        if (from < to) {
+            Arrays.fill(this.blocks, from * layerSize, to * layerSize, getPaletteId(block));
+        }
+    }
+
+    @Override
+    public void fill(BlockState block) {
+        Arrays.fill(this.blocks, getPaletteId(block));
+    }
+
+    @Override
+    public ImmutableBlockBuffer getImmutableClone() {
+        return new ImmutablePaletteBlockBuffer(this.minBlock, this.size, this.palette, this.blocks);
+    }
+
+    @Override
+    public Vector3i getBlockMin() {
+        return this.minBlock;
+    }
+
+    @Override
+    public Vector3i getBlockMax() {
+        return this.maxBlock;
+    }
+
+    @Override
+    public Vector3i getBlockSize() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsBlock(Vector3i position) {
+        return containsBlock(position.getX(), position.getY(), position.getZ());
+    }
+
+    @Override
+    public boolean containsBlock(int x, int y, int z) {
+        return VecHelper.inBounds(x, y, z, this.minBlock, this.maxBlock);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("min", this.getBlockMin())
+                .add("max", this.getBlockMax())
+                .add("palette", this.palette.size())
+                .toString();
+    }
+
+}
@@ -24,9 +24,12 @@
  */
 package org.spongepowered.common.world;
 
+import com.google.common.base.Function;
 import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Multiset;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
@@ -42,21 +45,28 @@
 import net.minecraft.world.storage.ISaveHandler;
 import net.minecraft.world.storage.SaveHandler;
 import org.apache.logging.log4j.Level;
+import org.spongepowered.api.event.world.WorldLoadEvent;
 import org.spongepowered.api.world.Dimension;
 import org.spongepowered.api.world.DimensionTypes;
 import org.spongepowered.common.Sponge;
 import org.spongepowered.common.event.SpongeImplEventFactory;
 import org.spongepowered.common.interfaces.IMixinEntityPlayerMP;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
+import org.spongepowered.common.interfaces.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.IMixinWorldProvider;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentMap;
 
+import javax.annotation.Nullable;
+
 public class DimensionManager {
 
     public static final Hashtable<Integer, Class<? extends WorldProvider>> providers = new Hashtable<Integer, Class<? extends WorldProvider>>();
@@ -67,6 +77,11 @@ public class DimensionManager {
     public static final ArrayList<Integer> unloadQueue = Lists.newArrayList();
     public static final BitSet dimensionMap = new BitSet(Long.SIZE << 4);
     public static final Multiset<Integer> leakedWorlds = HashMultiset.create();
+    // Indexes of the loaded worlds and an immutable snapshot of them, updated in setWorld
+    private static final ConcurrentMap<UUID, WorldServer> worldByUniqueId = Maps.newConcurrentMap();
+    private static final ConcurrentMap<String, WorldServer> worldByName = Maps.newConcurrentMap();
+    private static volatile WorldServer[] worldSnapshot = new WorldServer[0];
+    private static volatile List<org.spongepowered.api.world.World> worldList = ImmutableList.of();
     public static boolean hasInit = false;
 
     static {
@@ -192,13 +207,26 @@ public static void unloadWorldFromDimId(int id) {
     }
 
     public static void setWorld(int id, WorldServer world) {
+        WorldServer previous = world != null ? worlds.put(id, world) : worlds.remove(id);
+        if (previous != null) {
+            UUID uniqueId = ((org.spongepowered.api.world.World) previous).getUniqueId();
+            if (uniqueId != null) {
+                worldByUniqueId.remove(uniqueId, previous);
+            }
+            worldByName.remove(((org.spongepowered.api.world.World) previous).getName(), previous);
+        }
+
         if (world != null) {
-            worlds.put(id, world);
+            // Worlds saved without level_sponge.dat don't have a unique id yet
+            if (((org.spongepowered.api.world.World) world).getUniqueId() == null) {
+                ((IMixinWorldInfo) world.getWorldInfo()).setUUID(UUID.randomUUID());
+            }
+            worldByUniqueId.put(((org.spongepowered.api.world.World) world).getUniqueId(), world);
+            worldByName.put(((org.spongepowered.api.world.World) world).getName(), world);
             weakWorldMap.put(world, world);
             ((IMixinMinecraftServer) MinecraftServer.getServer()).getWorldTickTimes().put(id, new long[100]);
             Sponge.getLogger().info("Loading dimension {} ({}) ({})", id, world.getWorldInfo().getWorldName(), world.getMinecraftServer());
         } else {
-            worlds.remove(id);
             ((IMixinMinecraftServer) MinecraftServer.getServer()).getWorldTickTimes().remove(id);
             Sponge.getLogger().info("Unloading dimension {}", id);
         }
@@ -223,10 +251,43 @@ public static void setWorld(int id, WorldServer world) {
         }
 
         MinecraftServer.getServer().worldServers = tmp.toArray(new WorldServer[tmp.size()]);
+        worldSnapshot = worlds.values().toArray(new WorldServer[worlds.size()]);
+        worldList = ImmutableList.copyOf(Lists.transform(Arrays.asList(worldSnapshot),
+                new Function<WorldServer, org.spongepowered.api.world.World>() {
+
+                    @Override
+                    public org.spongepowered.api.world.World apply(WorldServer input) {
+                        return (org.spongepowered.api.world.World) input;
+                    }
+                }));
     }
 
+    /**
+     * Gets a copy of the loaded worlds.
+     *
+     * @return The loaded worlds
+     */
     public static WorldServer[] getWorlds() {
-        return worlds.values().toArray(new WorldServer[worlds.size()]);
+        return worldSnapshot.clone();
+    }
+
+    /**
+     * Gets an immutable list of the loaded worlds.
+     *
+     * @return The loaded worlds
+     */
+    public static List<org.spongepowered.api.world.World> getWorldList() {
+        return worldList;
+    }
+
+    @Nullable
+    public static WorldServer getWorldByUniqueId(UUID uniqueId) {
+        return worldByUniqueId.get(uniqueId);
+    }
+
+    @Nullable
+    public static WorldServer getWorldByName(String name) {
+        return worldByName.get(name);
     }
 
     public static boolean isDimensionRegistered(int dim) {
@@ -288,7 +349,9 @@ public static void initDimension(int dim) {
         WorldServer world =
                 (dim == 0 ? overworld : (WorldServer) (new WorldServerMulti(mcServer, savehandler, dim, overworld, mcServer.theProfiler).init()));
         world.addWorldAccess(new WorldManager(mcServer, world));
-        Sponge.getGame().getEventManager().post(SpongeImplEventFactory.createWorldLoad(Sponge.getGame(), (org.spongepowered.api.world.World) world));
+        if (Sponge.getSpongeEventManager().hasListeners(WorldLoadEvent.class)) {
+            Sponge.getGame().getEventManager().post(SpongeImplEventFactory.createWorldLoad(Sponge.getGame(), (org.spongepowered.api.world.World) world));
+        }
         if (!mcServer.isSinglePlayer()) {
             world.getWorldInfo().setGameType(mcServer.getGameType());
         }
@@ -28,11 +28,13 @@
 import com.google.common.base.Optional;
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
+import net.minecraft.world.WorldServer;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.TeleportHelper;
 import org.spongepowered.api.world.World;
+import org.spongepowered.common.interfaces.IMixinWorldServer;
 
 public class SpongeTeleportHelper implements TeleportHelper {
 
@@ -43,6 +45,11 @@ public Optional<Location> getSafeLocation(Location location) {
 
     @Override
     public Optional<Location> getSafeLocation(Location location, final int height, final int width) {
+        if (location.getExtent() instanceof WorldServer) {
+            // Read the chunks around the location in parallel before the blocks are checked one by one
+            ((IMixinWorldServer) location.getExtent()).getAsyncChunkLoader().loadChunks(location.getBlockX() >> 4, location.getBlockZ() >> 4,
+                    (width >> 4) + 1, false);
+        }
         // Check around the player first in a configurable radius:
         final Optional<Location> safe = checkAboveAndBelowLocation(location, height, width);
         if (safe.isPresent()) {
@@ -0,0 +1,139 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import net.minecraft.server.gui.IUpdatePlayerListBox;
+import net.minecraft.tileentity.TileEntity;
+import org.spongepowered.common.configuration.SpongeConfig;
+import org.spongepowered.common.interfaces.IMixinTileEntity;
+
+import java.util.Map;
+
+/**
+ * Updates ticking tile entities at the interval configured for their type,
+ * and puts idle tile entities to sleep. A sleeping tile entity is only
+ * updated every {@link SpongeConfig.TileEntityCategory#getIdleTickInterval()}
+ * ticks until a neighbour or its inventory changes.
+ */
+public final class TileEntityTickThrottle {
+
+    private static final Map<String, Timings> timings = Maps.newHashMap();
+    private static boolean timingsEnabled;
+
+    public static void update(TileEntity tile, long worldTime, SpongeConfig.TileEntityCategory category) {
+        IMixinTileEntity mixinTile = (IMixinTileEntity) tile;
+        boolean sleeping = category.sleepIdle() && mixinTile.isSleeping();
+        int interval = sleeping ? category.getIdleTickInterval() : category.getTickInterval(mixinTile.getTileEntityId());
+        Timings typeTimings = timingsEnabled ? getTimings(mixinTile.getTileEntityId()) : null;
+
+        // Spread tile entities of the same type over the interval by position
+        if (interval > 1 && (worldTime + (tile.getPos().hashCode() & Integer.MAX_VALUE)) % interval != 0) {
+            if (typeTimings != null) {
+                typeTimings.skipped++;
+            }
+            return;
+        }
+
+        if (typeTimings != null) {
+            long start = System.nanoTime();
+            ((IUpdatePlayerListBox) tile).update();
+            typeTimings.updates++;
+            typeTimings.time += System.nanoTime() - start;
+        } else {
+            ((IUpdatePlayerListBox) tile).update();
+        }
+
+        // Don't leave tile entities asleep once sleeping is disabled
+        mixinTile.setSleeping(category.sleepIdle() && mixinTile.isIdle());
+    }
+
+    private static Timings getTimings(String tileEntityId) {
+        String key = tileEntityId == null ? "unknown" : tileEntityId;
+        Timings typeTimings = timings.get(key);
+        if (typeTimings == null) {
+            typeTimings = new Timings();
+            timings.put(key, typeTimings);
+        }
+        return typeTimings;
+    }
+
+    public static boolean isTimingsEnabled() {
+        return timingsEnabled;
+    }
+
+    public static void setTimingsEnabled(boolean enabled) {
+        timingsEnabled = enabled;
+    }
+
+    public static void resetTimings() {
+        timings.clear();
+    }
+
+    /**
+     * Gets a copy of the timings recorded so far, by tile entity id.
+     *
+     * @return The timings
+     */
+    public static Map<String, Timings> getTimings() {
+        ImmutableMap.Builder<String, Timings> builder = ImmutableMap.builder();
+        for (Map.Entry<String, Timings> entry : timings.entrySet()) {
+            builder.put(entry.getKey(), entry.getValue().copy());
+        }
+        return builder.build();
+    }
+
+    public static final class Timings {
+
+        long updates;
+        long skipped;
+        long time;
+
+        Timings copy() {
+            Timings copy = new Timings();
+            copy.updates = this.updates;
+            copy.skipped = this.skipped;
+            copy.time = this.time;
+            return copy;
+        }
+
+        public long getUpdates() {
+            return this.updates;
+        }
+
+        public long getSkipped() {
+            return this.skipped;
+        }
+
+        public long getTime() {
+            return this.time;
+        }
+    }
+
+    private TileEntityTickThrottle() {
+    }
+
+}
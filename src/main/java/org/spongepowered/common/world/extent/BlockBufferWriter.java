@@ -0,0 +1,222 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import gnu.trove.list.array.TShortArrayList;
+import net.minecraft.block.Block;
+import net.minecraft.block.ITileEntityProvider;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.init.Blocks;
+import net.minecraft.network.Packet;
+import net.minecraft.network.play.server.S21PacketChunkData;
+import net.minecraft.network.play.server.S22PacketMultiBlockChange;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.spongepowered.api.util.gen.MutableBlockBuffer;
+
+import java.util.List;
+
+/**
+ * Writes a block buffer into a world a chunk at a time, straight into the
+ * block storage of each chunk section.
+ *
+ * <p>The height map and sky light columns are regenerated once per changed
+ * chunk. Once all blocks have been written, light is rechecked around every
+ * block that changed its light value or opacity, and only then each changed
+ * chunk is sent to its watchers as one packet. Neighbour notifications are
+ * sent last, if at all.</p>
+ */
+public final class BlockBufferWriter {
+
+    /**
+     * The number of changed blocks at which the whole chunk is resent, as in
+     * {@link net.minecraft.server.management.PlayerManager}.
+     */
+    private static final int CHUNK_RESEND_THRESHOLD = 64;
+
+    private BlockBufferWriter() {
+    }
+
+    /**
+     * Writes the blocks of the buffer into the world, with the lowest corner
+     * of the buffer at the given position.
+     *
+     * @param world The world to write to
+     * @param position The position of the lowest corner of the buffer
+     * @param buffer The blocks to write
+     * @param notifyNeighbours Whether to notify the neighbours of every
+     *     changed block once all blocks have been written
+     */
+    public static void write(WorldServer world, Vector3i position, MutableBlockBuffer buffer, boolean notifyNeighbours) {
+        final Vector3i size = buffer.getBlockSize();
+        final int minX = position.getX();
+        final int minY = position.getY();
+        final int minZ = position.getZ();
+        final int maxX = minX + size.getX() - 1;
+        final int maxY = minY + size.getY() - 1;
+        final int maxZ = minZ + size.getZ() - 1;
+        Preconditions.checkArgument(minY >= 0 && maxY < 256, "Buffer does not fit in the world height");
+
+        final Vector3i offset = buffer.getBlockMin().sub(position);
+        final List<BlockPos> changed = notifyNeighbours ? Lists.<BlockPos>newArrayList() : null;
+        final TShortArrayList changedInChunk = new TShortArrayList();
+        final List<BlockPos> lightChanged = Lists.newArrayList();
+        final List<BlockPos> skyEdges = Lists.newArrayList();
+        final List<Chunk> changedChunks = Lists.newArrayList();
+        final List<short[]> changesByChunk = Lists.newArrayList();
+
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+                ExtendedBlockStorage[] sections = chunk.getBlockStorageArray();
+                changedInChunk.resetQuick();
+
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = Math.max(minZ, chunkZ << 4); z <= Math.min(maxZ, (chunkZ << 4) | 0xf); z++) {
+                        for (int x = Math.max(minX, chunkX << 4); x <= Math.min(maxX, (chunkX << 4) | 0xf); x++) {
+                            IBlockState newState = (IBlockState) buffer.getBlock(x + offset.getX(), y + offset.getY(), z + offset.getZ());
+                            ExtendedBlockStorage section = sections[y >> 4];
+                            IBlockState oldState = section == null ? Blocks.air.getDefaultState() : section.get(x & 0xf, y & 0xf, z & 0xf);
+                            if (oldState == newState) {
+                                continue;
+                            }
+                            if (section == null) {
+                                section = sections[y >> 4] = new ExtendedBlockStorage(y >> 4 << 4, !world.provider.getHasNoSky());
+                            }
+
+                            Block oldBlock = oldState.getBlock();
+                            Block newBlock = newState.getBlock();
+                            BlockPos pos = null;
+                            if (oldBlock != newBlock && oldBlock instanceof ITileEntityProvider) {
+                                pos = new BlockPos(x, y, z);
+                                world.removeTileEntity(pos);
+                            }
+                            section.set(x & 0xf, y & 0xf, z & 0xf, newState);
+                            if (newBlock instanceof ITileEntityProvider) {
+                                pos = pos == null ? new BlockPos(x, y, z) : pos;
+                                if (chunk.getTileEntity(pos, Chunk.EnumCreateEntityType.CHECK) == null) {
+                                    world.setTileEntity(pos, ((ITileEntityProvider) newBlock).createNewTileEntity(world,
+                                            newBlock.getMetaFromState(newState)));
+                                }
+                            }
+
+                            if (oldBlock.getLightOpacity() != newBlock.getLightOpacity()) {
+                                pos = pos == null ? new BlockPos(x, y, z) : pos;
+                                lightChanged.add(pos);
+                                // Sky light spreads sideways into the columns around the buffer
+                                if (!world.provider.getHasNoSky() && (x == minX || x == maxX || z == minZ || z == maxZ)) {
+                                    skyEdges.add(pos);
+                                }
+                            } else if (oldBlock.getLightValue() != newBlock.getLightValue()) {
+                                pos = pos == null ? new BlockPos(x, y, z) : pos;
+                                lightChanged.add(pos);
+                            }
+
+                            // Same position encoding as PlayerInstance
+                            changedInChunk.add((short) ((x & 0xf) << 12 | (z & 0xf) << 8 | y));
+                            if (changed != null) {
+                                changed.add(pos == null ? new BlockPos(x, y, z) : pos);
+                            }
+                        }
+                    }
+                }
+
+                if (!changedInChunk.isEmpty()) {
+                    chunk.generateSkylightMap();
+                    chunk.setChunkModified();
+                    changedChunks.add(chunk);
+                    changesByChunk.add(changedInChunk.toArray());
+                }
+            }
+        }
+
+        // Spread block and sky light from and into the changed blocks, as
+        // setting them one by one would have
+        for (BlockPos pos : lightChanged) {
+            world.checkLight(pos);
+        }
+        for (BlockPos pos : skyEdges) {
+            if (pos.getX() == minX) {
+                world.checkLightFor(EnumSkyBlock.SKY, pos.west());
+            }
+            if (pos.getX() == maxX) {
+                world.checkLightFor(EnumSkyBlock.SKY, pos.east());
+            }
+            if (pos.getZ() == minZ) {
+                world.checkLightFor(EnumSkyBlock.SKY, pos.north());
+            }
+            if (pos.getZ() == maxZ) {
+                world.checkLightFor(EnumSkyBlock.SKY, pos.south());
+            }
+        }
+
+        for (int i = 0; i < changedChunks.size(); i++) {
+            sendChanges(world, changedChunks.get(i), changesByChunk.get(i));
+        }
+
+        if (changed != null) {
+            for (BlockPos pos : changed) {
+                world.notifyNeighborsOfStateChange(pos, world.getBlockState(pos).getBlock());
+            }
+        }
+    }
+
+    private static void sendChanges(WorldServer world, Chunk chunk, short[] changes) {
+        List<Packet> packets = Lists.newArrayList();
+        if (changes.length >= CHUNK_RESEND_THRESHOLD) {
+            packets.add(new S21PacketChunkData(chunk, false, 0xffff));
+        } else {
+            packets.add(new S22PacketMultiBlockChange(changes.length, changes, chunk));
+        }
+        for (short change : changes) {
+            BlockPos pos = new BlockPos((chunk.xPosition << 4) + (change >> 12 & 0xf), change & 0xff, (chunk.zPosition << 4) + (change >> 8 & 0xf));
+            TileEntity tileEntity = chunk.getTileEntity(pos, Chunk.EnumCreateEntityType.CHECK);
+            if (tileEntity != null) {
+                Packet packet = tileEntity.getDescriptionPacket();
+                if (packet != null) {
+                    packets.add(packet);
+                }
+            }
+        }
+
+        for (Object entity : world.playerEntities) {
+            EntityPlayerMP player = (EntityPlayerMP) entity;
+            if (world.getPlayerManager().isPlayerWatchingChunk(player, chunk.xPosition, chunk.zPosition)) {
+                for (Packet packet : packets) {
+                    player.playerNetServerHandler.sendPacket(packet);
+                }
+            }
+        }
+    }
+
+}
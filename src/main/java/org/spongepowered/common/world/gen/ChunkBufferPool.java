@@ -0,0 +1,121 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gen;
+
+import com.flowpowered.math.vector.Vector2i;
+import net.minecraft.world.chunk.ChunkPrimer;
+import org.spongepowered.common.util.gen.ByteArrayMutableBiomeBuffer;
+import org.spongepowered.common.util.gen.ChunkPrimerBuffer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Pool of the block and biome buffers chunks are generated in, so that
+ * generating a chunk doesn't allocate a new primer and biome array.
+ *
+ * <p>Buffers are taken with {@link #acquire(int, int)} and must be given back
+ * with {@link #release(Buffers)} once the chunk has been built from them,
+ * after which they must no longer be used. The pool can be used from several
+ * threads.</p>
+ */
+public final class ChunkBufferPool {
+
+    private static final Vector2i CHUNK_AREA = new Vector2i(16, 16);
+
+    private final Deque<Buffers> free = new ArrayDeque<Buffers>();
+    private final int maxSize;
+
+    /**
+     * Creates a pool that keeps at most the given number of unused buffers.
+     *
+     * @param maxSize The max number of unused buffers
+     */
+    public ChunkBufferPool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Takes cleared buffers for the given chunk out of the pool, or creates
+     * them if the pool is empty.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The buffers
+     */
+    public Buffers acquire(int chunkX, int chunkZ) {
+        Buffers buffers;
+        synchronized (this.free) {
+            buffers = this.free.poll();
+        }
+        if (buffers == null) {
+            buffers = new Buffers(chunkX, chunkZ);
+        } else {
+            buffers.reuse(chunkX, chunkZ);
+        }
+        return buffers;
+    }
+
+    /**
+     * Gives buffers back to the pool.
+     *
+     * @param buffers The buffers
+     */
+    public void release(Buffers buffers) {
+        if (!buffers.biomes.isDetached()) {
+            buffers.biomes.detach();
+        }
+        synchronized (this.free) {
+            if (this.free.size() < this.maxSize) {
+                this.free.push(buffers);
+            }
+        }
+    }
+
+    public static final class Buffers {
+
+        private final ChunkPrimerBuffer blocks;
+        private final ByteArrayMutableBiomeBuffer biomes;
+
+        Buffers(int chunkX, int chunkZ) {
+            this.blocks = new ChunkPrimerBuffer(new ChunkPrimer(), chunkX, chunkZ);
+            this.biomes = new ByteArrayMutableBiomeBuffer(new Vector2i(chunkX << 4, chunkZ << 4), CHUNK_AREA);
+        }
+
+        void reuse(int chunkX, int chunkZ) {
+            this.blocks.reuse(chunkX, chunkZ);
+            this.biomes.reuse(new Vector2i(chunkX << 4, chunkZ << 4));
+        }
+
+        public ChunkPrimerBuffer getBlocks() {
+            return this.blocks;
+        }
+
+        public ByteArrayMutableBiomeBuffer getBiomes() {
+            return this.biomes;
+        }
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gen;
+
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.Sponge;
+import org.spongepowered.common.interfaces.IMixinAnvilChunkLoader;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nullable;
+
+/**
+ * Fills the block and biome buffers of chunks just outside the view distance
+ * of the players on worker threads, for a {@link CustomChunkProviderGenerate}
+ * whose generators have been declared thread-safe. When such a chunk is
+ * loaded, only the chunk itself is built on the main thread.
+ *
+ * <p>Every generated chunk holds on to pooled buffers until it is loaded, so
+ * only the chunks nearest to each player are generated ahead, up to
+ * {@link #MAX_TASKS} in total.</p>
+ */
+public final class ChunkGenerationPipeline {
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+            new ThreadFactoryBuilder().setNameFormat("Sponge Chunk Generator Thread #%d").setDaemon(true).build());
+
+    /**
+     * The number of ticks between updates of the chunks to generate.
+     */
+    private static final int UPDATE_INTERVAL = 10;
+
+    /**
+     * The max number of chunks generated ahead for all players together.
+     */
+    static final int MAX_TASKS = 64;
+
+    /**
+     * The max number of chunks generated ahead for a single player.
+     */
+    private static final int MAX_TASKS_PER_PLAYER = 16;
+
+    private final CustomChunkProviderGenerate generator;
+    private final int lookAhead;
+    private final ConcurrentMap<Long, Task> tasks = Maps.newConcurrentMap();
+    private final TLongSet wanted = new TLongHashSet();
+
+    ChunkGenerationPipeline(CustomChunkProviderGenerate generator, int lookAhead) {
+        this.generator = generator;
+        this.lookAhead = lookAhead;
+    }
+
+    /**
+     * Starts generating the chunks nearest to each player that are within the
+     * look-ahead radius around the view distance and not loaded yet, and
+     * drops the generated chunks that are no longer near a player or have
+     * been loaded otherwise. Called on the main thread every tick.
+     *
+     * @param world The world of the generator
+     */
+    public void update(WorldServer world) {
+        if (world.getTotalWorldTime() % UPDATE_INTERVAL != 0) {
+            return;
+        }
+        IMixinAnvilChunkLoader chunkLoader = world.theChunkProviderServer.chunkLoader instanceof IMixinAnvilChunkLoader
+                ? (IMixinAnvilChunkLoader) world.theChunkProviderServer.chunkLoader : null;
+        int radius = world.getPlayerManager().playerViewRadius + this.lookAhead;
+
+        this.wanted.clear();
+        for (Object entity : world.playerEntities) {
+            EntityPlayer player = (EntityPlayer) entity;
+            int centerX = MathHelper.floor_double(player.posX) >> 4;
+            int centerZ = MathHelper.floor_double(player.posZ) >> 4;
+            int remaining = MAX_TASKS_PER_PLAYER;
+            // Square rings around the player, nearest first
+            for (int ring = 0; ring <= radius && remaining > 0; ring++) {
+                for (int dx = -ring; dx <= ring && remaining > 0; dx++) {
+                    int step = dx == -ring || dx == ring ? 1 : 2 * ring;
+                    for (int dz = -ring; dz <= ring && remaining > 0; dz += step) {
+                        if (want(world, chunkLoader, centerX + dx, centerZ + dz)) {
+                            remaining--;
+                        }
+                    }
+                }
+            }
+        }
+
+        for (Iterator<Task> it = this.tasks.values().iterator(); it.hasNext();) {
+            Task task = it.next();
+            if (!this.wanted.contains(task.key)) {
+                it.remove();
+                task.discard();
+            }
+        }
+    }
+
+    private boolean want(WorldServer world, @Nullable IMixinAnvilChunkLoader chunkLoader, int x, int z) {
+        if (world.theChunkProviderServer.chunkExists(x, z)) {
+            return false;
+        }
+        long key = ChunkCoordIntPair.chunkXZ2Int(x, z);
+        if (!this.tasks.containsKey(key)) {
+            if (this.tasks.size() >= MAX_TASKS) {
+                return false;
+            }
+            Task task = new Task(x, z, key, chunkLoader);
+            this.tasks.put(key, task);
+            executor.execute(task);
+        }
+        this.wanted.add(key);
+        return true;
+    }
+
+    /**
+     * Takes the generated buffers of a chunk, waiting for them if the chunk
+     * is being generated right now. Called on the main thread.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The buffers, which the caller must release, or null if the
+     *     chunk should be generated by the caller
+     */
+    @Nullable
+    public ChunkBufferPool.Buffers take(int x, int z) {
+        Task task = this.tasks.remove(ChunkCoordIntPair.chunkXZ2Int(x, z));
+        if (task == null || task.started.compareAndSet(false, true)) {
+            // Not started yet, faster to generate right away
+            return null;
+        }
+        Uninterruptibles.awaitUninterruptibly(task.done);
+        return task.released.compareAndSet(false, true) ? task.buffers : null;
+    }
+
+    private final class Task implements Runnable {
+
+        final int x;
+        final int z;
+        final long key;
+        @Nullable final IMixinAnvilChunkLoader chunkLoader;
+        final AtomicBoolean started = new AtomicBoolean();
+        final AtomicBoolean released = new AtomicBoolean();
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile boolean discarded;
+        @Nullable volatile ChunkBufferPool.Buffers buffers;
+
+        Task(int x, int z, long key, @Nullable IMixinAnvilChunkLoader chunkLoader) {
+            this.x = x;
+            this.z = z;
+            this.key = key;
+            this.chunkLoader = chunkLoader;
+        }
+
+        @Override
+        public void run() {
+            if (!this.started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                // Chunks that have been saved are loaded, not generated
+                if (this.chunkLoader == null || !this.chunkLoader.isChunkSaved(this.x, this.z)) {
+                    ChunkBufferPool.Buffers buffers = ChunkGenerationPipeline.this.generator.getBufferPool().acquire(this.x, this.z);
+                    ChunkGenerationPipeline.this.generator.generateBuffers(buffers);
+                    this.buffers = buffers;
+                }
+            } catch (Throwable t) {
+                Sponge.getLogger().error("Couldn't generate chunk (" + this.x + ", " + this.z + ") in advance", t);
+            } finally {
+                this.done.countDown();
+            }
+            if (this.discarded) {
+                release();
+            }
+        }
+
+        void discard() {
+            this.discarded = true;
+            if (!this.started.compareAndSet(false, true) && this.done.getCount() == 0) {
+                release();
+            }
+        }
+
+        private void release() {
+            ChunkBufferPool.Buffers buffers = this.buffers;
+            if (buffers != null && this.released.compareAndSet(false, true)) {
+                ChunkGenerationPipeline.this.generator.getBufferPool().release(buffers);
+            }
+        }
+    }
+
+}
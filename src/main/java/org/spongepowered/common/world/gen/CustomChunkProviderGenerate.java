@@ -24,7 +24,6 @@
  */
 package org.spongepowered.common.world.gen;
 
-import com.flowpowered.math.vector.Vector2i;
 import com.google.common.base.Preconditions;
 import net.minecraft.block.BlockFalling;
 import net.minecraft.entity.EnumCreatureType;
@@ -34,29 +33,30 @@
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.biome.BiomeGenBase.SpawnListEntry;
 import net.minecraft.world.chunk.Chunk;
-import net.minecraft.world.chunk.ChunkPrimer;
 import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.ChunkProviderGenerate;
 import org.spongepowered.api.world.gen.BiomeGenerator;
 import org.spongepowered.api.world.gen.GeneratorPopulator;
+import org.spongepowered.common.configuration.SpongeConfig;
+import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.gen.ByteArrayMutableBiomeBuffer;
-import org.spongepowered.common.util.gen.ChunkPrimerBuffer;
 
 import java.util.List;
 import java.util.Random;
 
+import javax.annotation.Nullable;
+
 /**
  * Similar class to {@link ChunkProviderGenerate}, but instead gets its blocks
  * from a custom chunk generator.
  */
 public final class CustomChunkProviderGenerate implements IChunkProvider {
 
-    private static final Vector2i CHUNK_AREA = new Vector2i(16, 16);
-
     final GeneratorPopulator generatorPopulator;
     final BiomeGenerator biomeGenerator;
     private final World world;
-    private final ByteArrayMutableBiomeBuffer cachedBiomes;
+    private final ChunkBufferPool bufferPool;
+    @Nullable private final ChunkGenerationPipeline pipeline;
 
     /**
      * Gets the chunk generator from the given generator populator and biome
@@ -83,9 +83,38 @@ private CustomChunkProviderGenerate(World world, GeneratorPopulator generatorPop
         this.generatorPopulator = Preconditions.checkNotNull(generatorPopulator);
         this.biomeGenerator = Preconditions.checkNotNull(biomeGenerator);
 
-        // Make initially empty biome cache
-        this.cachedBiomes = new ByteArrayMutableBiomeBuffer(Vector2i.ZERO, CHUNK_AREA);
-        this.cachedBiomes.detach();
+        SpongeConfig.WorldCategory config = SpongeHooks.getActiveConfig(world).getConfig().getWorld();
+        this.pipeline = config.isParallelGeneration() ? new ChunkGenerationPipeline(this, config.getGenerationLookAhead()) : null;
+        // Room for every chunk the pipeline may hold on to, so its buffers are always reused
+        this.bufferPool = new ChunkBufferPool(Runtime.getRuntime().availableProcessors()
+                + (this.pipeline != null ? ChunkGenerationPipeline.MAX_TASKS : 0));
+    }
+
+    /**
+     * Gets the pipeline that generates chunks ahead of the players, if the
+     * generators of the world have been declared thread-safe.
+     *
+     * @return The pipeline, or null
+     */
+    @Nullable
+    public ChunkGenerationPipeline getPipeline() {
+        return this.pipeline;
+    }
+
+    ChunkBufferPool getBufferPool() {
+        return this.bufferPool;
+    }
+
+    /**
+     * Generates the biomes and blocks of a chunk into the given buffers. Runs
+     * on the threads of the pipeline if there is one.
+     *
+     * @param buffers The buffers of the chunk
+     */
+    void generateBuffers(ChunkBufferPool.Buffers buffers) {
+        ByteArrayMutableBiomeBuffer biomes = buffers.getBiomes();
+        this.biomeGenerator.generateBiomes(biomes);
+        this.generatorPopulator.populate((org.spongepowered.api.world.World) this.world, buffers.getBlocks(), biomes.getImmutableClone());
     }
 
     @Override
@@ -126,23 +155,22 @@ public void recreateStructures(Chunk chunk, int chunkX, int chunkZ) {
 
     @Override
     public Chunk provideChunk(int chunkX, int chunkZ) {
-
-        // Generate biomes
-        this.cachedBiomes.reuse(new Vector2i(chunkX << 4, chunkZ << 4));
-        this.biomeGenerator.generateBiomes(this.cachedBiomes);
-
-        // Generate blocks
-        ChunkPrimer chunkprimer = new ChunkPrimer();
-        ChunkPrimerBuffer buffer = new ChunkPrimerBuffer(chunkprimer, chunkX, chunkZ);
-        this.generatorPopulator.populate((org.spongepowered.api.world.World) this.world, buffer, this.cachedBiomes.getImmutableClone());
-
-        // Assemble chunk
-        Chunk chunk = new Chunk(this.world, chunkprimer, chunkX, chunkZ);
-        byte[] biomeArray = chunk.getBiomeArray();
-        System.arraycopy(this.cachedBiomes.detach(), 0, biomeArray, 0, biomeArray.length);
-        chunk.generateSkylightMap();
-
-        return chunk;
+        ChunkBufferPool.Buffers buffers = this.pipeline == null ? null : this.pipeline.take(chunkX, chunkZ);
+        if (buffers == null) {
+            buffers = this.bufferPool.acquire(chunkX, chunkZ);
+            generateBuffers(buffers);
+        }
+        try {
+            // Assemble chunk
+            Chunk chunk = new Chunk(this.world, buffers.getBlocks().getChunkPrimer(), chunkX, chunkZ);
+            byte[] biomeArray = chunk.getBiomeArray();
+            System.arraycopy(buffers.getBiomes().detach(), 0, biomeArray, 0, biomeArray.length);
+            chunk.generateSkylightMap();
+
+            return chunk;
+        } finally {
+            this.bufferPool.release(buffers);
+        }
     }
 
     // Methods below are simply mirrors of the methods in ChunkProviderGenerate
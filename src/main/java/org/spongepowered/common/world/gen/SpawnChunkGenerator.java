@@ -0,0 +1,143 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gen;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.gen.ChunkProviderEnd;
+import net.minecraft.world.gen.ChunkProviderHell;
+import org.spongepowered.common.Sponge;
+import org.spongepowered.common.interfaces.IMixinWorldServer;
+import org.spongepowered.common.world.storage.AsyncChunkLoader;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Generates the terrain of the unsaved chunks in the spawn area of a world on
+ * a worker thread, while the main thread prepares the spawn areas of other
+ * worlds. The main thread only populates and adds the chunks.
+ *
+ * <p>The main thread must not load chunks of the world until
+ * {@link #await()} returns, as the chunk generator is not thread-safe.</p>
+ */
+public final class SpawnChunkGenerator implements Runnable {
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+            new ThreadFactoryBuilder().setNameFormat("Sponge Spawn Generator Thread #%d").setDaemon(true).build());
+
+    private final WorldServer world;
+    private final int centerX;
+    private final int centerZ;
+    private final int radius;
+    private final CountDownLatch done = new CountDownLatch(1);
+    private volatile boolean cancelled;
+
+    private SpawnChunkGenerator(WorldServer world, int centerX, int centerZ, int radius) {
+        this.world = world;
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.radius = radius;
+    }
+
+    /**
+     * Gets whether the chunks of the world can be generated off the main
+     * thread, while the main thread generates and populates chunks of other
+     * worlds.
+     *
+     * <p>The overworld and flat generators can't, their biome layers share
+     * the static {@link net.minecraft.world.gen.layer.IntCache} with every
+     * other world. Their spawn areas are still read from disk in parallel.
+     * The nether and end generators use fixed biomes and keep all their
+     * state to themselves. Custom generators must be declared thread-safe
+     * through the config.</p>
+     *
+     * @param world The world
+     * @return Whether the terrain can be generated on a worker thread
+     */
+    public static boolean canGenerateAsync(WorldServer world) {
+        IChunkProvider generator = world.theChunkProviderServer.serverChunkGenerator;
+        if (generator instanceof CustomChunkProviderGenerate) {
+            return ((CustomChunkProviderGenerate) generator).getPipeline() != null;
+        }
+        Class<? extends IChunkProvider> generatorClass = generator.getClass();
+        return generatorClass == ChunkProviderHell.class || generatorClass == ChunkProviderEnd.class;
+    }
+
+    /**
+     * Starts generating the chunks within the given radius of a chunk that
+     * have not been saved. The reads of these chunks should have been
+     * started with {@link AsyncChunkLoader#loadChunks}.
+     *
+     * @param world The world
+     * @param centerX The x coordinate of the center chunk
+     * @param centerZ The z coordinate of the center chunk
+     * @param radius The radius in chunks
+     * @return The running generator
+     */
+    public static SpawnChunkGenerator start(WorldServer world, int centerX, int centerZ, int radius) {
+        SpawnChunkGenerator generator = new SpawnChunkGenerator(world, centerX, centerZ, radius);
+        executor.execute(generator);
+        return generator;
+    }
+
+    @Override
+    public void run() {
+        AsyncChunkLoader loader = ((IMixinWorldServer) this.world).getAsyncChunkLoader();
+        IChunkProvider generator = this.world.theChunkProviderServer.serverChunkGenerator;
+        try {
+            for (int x = this.centerX - this.radius; x <= this.centerX + this.radius && !this.cancelled; x++) {
+                for (int z = this.centerZ - this.radius; z <= this.centerZ + this.radius && !this.cancelled; z++) {
+                    if (!this.world.theChunkProviderServer.chunkExists(x, z) && !loader.awaitRead(x, z)) {
+                        loader.addGeneratedChunk(generator.provideChunk(x, z));
+                    }
+                }
+            }
+        } catch (Throwable t) {
+            // The main thread generates whatever is left
+            Sponge.getLogger().error("Couldn't generate the spawn area of level " + this.world.provider.getDimensionId() + " asynchronously", t);
+        } finally {
+            this.done.countDown();
+        }
+    }
+
+    /**
+     * Stops generating further chunks.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Waits until the generator has finished or has been cancelled.
+     */
+    public void await() {
+        Uninterruptibles.awaitUninterruptibly(this.done);
+    }
+
+}
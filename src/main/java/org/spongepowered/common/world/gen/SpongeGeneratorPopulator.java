@@ -28,6 +28,7 @@
 import com.google.common.base.Preconditions;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkPrimer;
 import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import org.spongepowered.api.block.BlockState;
@@ -35,6 +36,10 @@
 import org.spongepowered.api.util.gen.BiomeBuffer;
 import org.spongepowered.api.util.gen.MutableBlockBuffer;
 import org.spongepowered.api.world.gen.GeneratorPopulator;
+import org.spongepowered.common.util.gen.ChunkPrimerBuffer;
+import org.spongepowered.common.util.gen.FastChunkBuffer;
+
+import java.util.Arrays;
 
 /**
  * Generator populator that wraps a Minecraft {@link IChunkProvider}.
@@ -68,6 +73,21 @@ private SpongeGeneratorPopulator(World world, IChunkProvider chunkGenerator) {
     @Override
     public void populate(org.spongepowered.api.world.World world, MutableBlockBuffer buffer, BiomeBuffer biomes) {
 
+        // Fast path: the buffer covers exactly one chunk, so whole sections
+        // can be copied over instead of single blocks
+        if (buffer instanceof ChunkPrimerBuffer || buffer instanceof FastChunkBuffer) {
+            Vector3i min = buffer.getBlockMin();
+            if ((min.getX() & 0xf) == 0 && (min.getZ() & 0xf) == 0) {
+                final Chunk generated = this.chunkGenerator.provideChunk(min.getX() >> 4, min.getZ() >> 4);
+                if (buffer instanceof ChunkPrimerBuffer) {
+                    copySections(generated, ((ChunkPrimerBuffer) buffer).getChunkPrimer());
+                } else {
+                    copySections(generated, ((FastChunkBuffer) buffer).getChunk());
+                }
+                return;
+            }
+        }
+
         // Empty the buffer
         buffer.fill(BlockTypes.AIR.getDefaultState());
 
@@ -105,13 +125,13 @@ private void placeChunkInBuffer(Chunk chunk, MutableBlockBuffer buffer, int chun
         // Copy the right blocks in
         ExtendedBlockStorage[] blockStorage = chunk.getBlockStorageArray();
         for (ExtendedBlockStorage miniChunk : blockStorage) {
-            if (miniChunk == null) {
+            if (miniChunk == null || miniChunk.isEmpty()) {
                 continue;
             }
 
             int yOffset = miniChunk.getYLocation();
-            int yInChunkStart = Math.max(yOffset, yStart);
-            int yInChunkEnd = Math.min(yOffset + 15, yEnd);
+            int yInChunkStart = Math.max(yOffset, yStart) - yOffset;
+            int yInChunkEnd = Math.min(yOffset + 15, yEnd) - yOffset;
             for (int xInChunk = xInChunkStart; xInChunk <= xInChunkEnd; xInChunk++) {
                 for (int yInChunk = yInChunkStart; yInChunk <= yInChunkEnd; yInChunk++) {
                     for (int zInChunk = zInChunkStart; zInChunk <= zInChunkEnd; zInChunk++) {
@@ -123,6 +143,53 @@ private void placeChunkInBuffer(Chunk chunk, MutableBlockBuffer buffer, int chun
         }
     }
 
+    private static void copySections(Chunk chunk, ChunkPrimer primer) {
+        short[] target = primer.data;
+        Arrays.fill(target, (short) 0);
+
+        for (ExtendedBlockStorage miniChunk : chunk.getBlockStorageArray()) {
+            if (miniChunk == null || miniChunk.isEmpty()) {
+                continue;
+            }
+
+            // Sections are stored as y/z/x, chunk primers as x/z/y, so copy
+            // column by column
+            char[] source = miniChunk.getData();
+            int yOffset = miniChunk.getYLocation();
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    int targetIndex = x << 12 | z << 8 | yOffset;
+                    int sourceIndex = z << 4 | x;
+                    for (int y = 0; y < 16; y++) {
+                        target[targetIndex + y] = (short) source[sourceIndex + (y << 8)];
+                    }
+                }
+            }
+        }
+    }
+
+    private static void copySections(Chunk chunk, Chunk target) {
+        ExtendedBlockStorage[] sourceSections = chunk.getBlockStorageArray();
+        ExtendedBlockStorage[] targetSections = target.getBlockStorageArray();
+        boolean storeSkyLight = !target.getWorld().provider.getHasNoSky();
+
+        for (int ySectionId = 0; ySectionId < targetSections.length; ySectionId++) {
+            ExtendedBlockStorage miniChunk = sourceSections[ySectionId];
+            if (miniChunk == null || miniChunk.isEmpty()) {
+                targetSections[ySectionId] = null;
+                continue;
+            }
+
+            ExtendedBlockStorage section = targetSections[ySectionId];
+            if (section == null) {
+                targetSections[ySectionId] = section = new ExtendedBlockStorage(ySectionId << 4, storeSkyLight);
+            }
+            char[] source = miniChunk.getData();
+            System.arraycopy(source, 0, section.getData(), 0, source.length);
+            section.removeInvalidBlocks();
+        }
+    }
+
     /**
      * Gets the chunk provider, if the target world matches the world this chunk
      * provider was bound to.
@@ -0,0 +1,362 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.Uninterruptibles;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.common.Sponge;
+import org.spongepowered.common.interfaces.IMixinAnvilChunkLoader;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Loads the chunks of a world in two phases. The chunk data is read and
+ * decompressed from the region files on a shared I/O pool, after which the
+ * chunk is built and added to the world on the main thread, within a time
+ * budget per tick.
+ *
+ * <p>Only one request exists per chunk at a time. Any synchronous load of a
+ * chunk with a request in flight takes over the data of that request, so
+ * starting requests for an area before loading it synchronously lets the
+ * reads run in parallel.</p>
+ */
+public final class AsyncChunkLoader {
+
+    /**
+     * The radius in chunks read ahead around the destination of a teleport.
+     */
+    public static final int TELEPORT_RADIUS = 3;
+
+    private static final ExecutorService ioExecutor = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)),
+            new ThreadFactoryBuilder().setNameFormat("Sponge Chunk I/O Thread #%d").setDaemon(true).build());
+
+    private final WorldServer world;
+    @Nullable private final IMixinAnvilChunkLoader chunkLoader;
+    private final ConcurrentMap<Long, Request> requests = Maps.newConcurrentMap();
+    private final Queue<Request> readRequests = new ConcurrentLinkedQueue<Request>();
+    private final ConcurrentMap<Long, Chunk> generatedChunks = Maps.newConcurrentMap();
+
+    public AsyncChunkLoader(WorldServer world) {
+        this.world = world;
+        this.chunkLoader = world.theChunkProviderServer.chunkLoader instanceof IMixinAnvilChunkLoader
+                ? (IMixinAnvilChunkLoader) world.theChunkProviderServer.chunkLoader : null;
+    }
+
+    /**
+     * Requests the chunk at the given chunk coordinates. The returned future
+     * completes on the main thread once the chunk has been added to the
+     * world, or with {@link Optional#absent()} if the chunk does not exist
+     * and should not be generated. Every caller gets its own future, the
+     * load is cancelled once the futures of all callers are cancelled.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param generate Whether to generate the chunk if it does not exist
+     * @return The future chunk
+     */
+    public ListenableFuture<Optional<org.spongepowered.api.world.Chunk>> loadChunk(int x, int z, boolean generate) {
+        ChunkProviderServer provider = this.world.theChunkProviderServer;
+        if (provider.chunkExists(x, z)) {
+            return Futures.immediateFuture(Optional.of((org.spongepowered.api.world.Chunk) provider.provideChunk(x, z)));
+        }
+
+        long key = ChunkCoordIntPair.chunkXZ2Int(x, z);
+        while (true) {
+            Request request = this.requests.get(key);
+            if (request == null) {
+                Request newRequest = new Request(x, z, key, generate);
+                request = this.requests.putIfAbsent(key, newRequest);
+                if (request == null) {
+                    if (this.chunkLoader != null) {
+                        ioExecutor.execute(newRequest);
+                    } else {
+                        // Custom chunk loaders can only be used on the main thread
+                        newRequest.read.countDown();
+                        this.readRequests.add(newRequest);
+                    }
+                    return newRequest.newFuture();
+                }
+            }
+            if (request.acquire()) {
+                if (generate) {
+                    request.generate = true;
+                }
+                return request.newFuture();
+            }
+            // All callers of the request cancelled, replace it
+            this.requests.remove(key, request);
+        }
+    }
+
+    /**
+     * Starts loading every chunk within the given radius of a chunk, so that
+     * loading them synchronously afterwards doesn't wait for each read in
+     * turn.
+     *
+     * @param centerX The x coordinate of the center chunk
+     * @param centerZ The z coordinate of the center chunk
+     * @param radius The radius in chunks
+     * @param generate Whether to generate chunks that do not exist
+     */
+    public void loadChunks(int centerX, int centerZ, int radius, boolean generate) {
+        for (int x = centerX - radius; x <= centerX + radius; x++) {
+            for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                loadChunk(x, z, generate);
+            }
+        }
+    }
+
+    /**
+     * Adds chunks that have been read to the world until the given time
+     * budget is used up. Must be called on the main thread.
+     *
+     * @param budgetMillis The time budget, or 0 for no limit
+     */
+    public void processReadRequests(int budgetMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        Request request;
+        while ((request = this.readRequests.poll()) != null) {
+            if (!request.cancelled && !request.result.isDone() && (request.generate || request.data != null)) {
+                // Takes over the read data through onLoadChunk and completes the request through onChunkLoaded
+                this.world.theChunkProviderServer.loadChunk(request.x, request.z);
+            }
+            this.requests.remove(request.key, request);
+            request.result.set(Optional.<org.spongepowered.api.world.Chunk>absent());
+            if (budgetMillis > 0 && System.nanoTime() > deadline) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Waits until the pending read of the given chunk, if any, has finished.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return Whether saved data was found for the chunk
+     */
+    public boolean awaitRead(int x, int z) {
+        Request request = this.requests.get(ChunkCoordIntPair.chunkXZ2Int(x, z));
+        if (request == null) {
+            return false;
+        }
+        Uninterruptibles.awaitUninterruptibly(request.read);
+        return request.data != null;
+    }
+
+    /**
+     * Adds a chunk that was generated ahead of time off the main thread. The
+     * chunk provider uses it instead of generating the chunk when the chunk
+     * is loaded.
+     *
+     * @param chunk The generated chunk, not yet populated
+     */
+    public void addGeneratedChunk(Chunk chunk) {
+        this.generatedChunks.put(ChunkCoordIntPair.chunkXZ2Int(chunk.xPosition, chunk.zPosition), chunk);
+    }
+
+    /**
+     * Removes and returns the chunk generated ahead of time at the given
+     * chunk coordinates, if any.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The generated chunk, or null
+     */
+    @Nullable
+    public Chunk takeGeneratedChunk(int x, int z) {
+        return this.generatedChunks.isEmpty() ? null : this.generatedChunks.remove(ChunkCoordIntPair.chunkXZ2Int(x, z));
+    }
+
+    public void clearGeneratedChunks() {
+        this.generatedChunks.clear();
+    }
+
+    /**
+     * Called on the main thread before the chunk provider loads a chunk.
+     * Passes the data of a pending request for the chunk to the chunk loader,
+     * reading it right away if the read has not started yet.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     */
+    public void onLoadChunk(int x, int z) {
+        Request request = this.requests.get(ChunkCoordIntPair.chunkXZ2Int(x, z));
+        if (request == null || this.chunkLoader == null) {
+            return;
+        }
+        if (request.started.compareAndSet(false, true)) {
+            request.readData();
+        } else {
+            Uninterruptibles.awaitUninterruptibly(request.read);
+        }
+        if (request.data != null) {
+            this.chunkLoader.setPrefetchedChunkData(x, z, request.data);
+        }
+    }
+
+    /**
+     * Called on the main thread after the chunk provider loaded a chunk.
+     * Completes the pending request for the chunk, if any.
+     *
+     * @param chunk The loaded chunk
+     */
+    public void onChunkLoaded(Chunk chunk) {
+        if (this.chunkLoader != null) {
+            this.chunkLoader.setPrefetchedChunkData(chunk.xPosition, chunk.zPosition, null);
+        }
+        Request request = this.requests.remove(ChunkCoordIntPair.chunkXZ2Int(chunk.xPosition, chunk.zPosition));
+        if (request != null) {
+            request.result.set(Optional.of((org.spongepowered.api.world.Chunk) chunk));
+        }
+    }
+
+    private final class Request implements Runnable {
+
+        final int x;
+        final int z;
+        final long key;
+        // The result shared by all callers, never handed out so it can't be cancelled
+        final SettableFuture<Optional<org.spongepowered.api.world.Chunk>> result = SettableFuture.create();
+        final AtomicBoolean started = new AtomicBoolean();
+        final CountDownLatch read = new CountDownLatch(1);
+        // The number of callers with a future that is not cancelled
+        private final AtomicInteger callers = new AtomicInteger(1);
+        volatile boolean cancelled;
+        volatile boolean generate;
+        @Nullable volatile NBTTagCompound data;
+
+        Request(int x, int z, long key, boolean generate) {
+            this.x = x;
+            this.z = z;
+            this.key = key;
+            this.generate = generate;
+        }
+
+        /**
+         * Adds a caller to this request, unless all previous callers already
+         * cancelled it.
+         *
+         * @return Whether the caller was added
+         */
+        boolean acquire() {
+            int count;
+            do {
+                count = this.callers.get();
+                if (count == 0) {
+                    return false;
+                }
+            } while (!this.callers.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        /**
+         * Creates the future of a caller that {@link #acquire() acquired} this
+         * request. Cancelling it only cancels the request once no other caller
+         * is waiting for it.
+         *
+         * @return The future of the caller
+         */
+        ListenableFuture<Optional<org.spongepowered.api.world.Chunk>> newFuture() {
+            final SettableFuture<Optional<org.spongepowered.api.world.Chunk>> future = SettableFuture.create();
+            Futures.addCallback(this.result, new FutureCallback<Optional<org.spongepowered.api.world.Chunk>>() {
+
+                @Override
+                public void onSuccess(Optional<org.spongepowered.api.world.Chunk> chunk) {
+                    future.set(chunk);
+                }
+
+                @Override
+                public void onFailure(Throwable t) {
+                    future.setException(t);
+                }
+            });
+            future.addListener(new Runnable() {
+
+                @Override
+                public void run() {
+                    if (future.isCancelled()) {
+                        release();
+                    }
+                }
+            }, MoreExecutors.sameThreadExecutor());
+            return future;
+        }
+
+        private void release() {
+            if (this.callers.decrementAndGet() == 0) {
+                this.cancelled = true;
+                // A pending read is skipped, and the data of a finished read dropped
+                AsyncChunkLoader.this.requests.remove(this.key, this);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (this.started.compareAndSet(false, true)) {
+                readData();
+                AsyncChunkLoader.this.readRequests.add(this);
+            }
+        }
+
+        void readData() {
+            try {
+                if (!this.cancelled) {
+                    this.data = AsyncChunkLoader.this.chunkLoader.readChunkData(this.x, this.z);
+                }
+            } catch (IOException e) {
+                // Treat the chunk as missing, a synchronous load reads it again and handles the error
+                Sponge.getLogger().debug("Couldn't read chunk (" + this.x + ", " + this.z + ") asynchronously", e);
+            } finally {
+                this.read.countDown();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.MapMaker;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.spongepowered.api.data.DataManipulator;
+import org.spongepowered.api.data.manipulator.DisplayNameData;
+import org.spongepowered.api.data.manipulator.entity.AgeableData;
+import org.spongepowered.api.data.manipulator.entity.FoodData;
+import org.spongepowered.api.data.manipulator.entity.HealthData;
+import org.spongepowered.api.data.manipulator.entity.SkinData;
+import org.spongepowered.common.data.manipulator.entity.SpongeHealthData;
+import org.spongepowered.common.data.util.ClassDispatchTable;
+
+import java.util.Map;
+
+/**
+ * Measures the processor lookup done by every
+ * {@code Entity.getData(HealthData.class)}, comparing the concurrent map and
+ * {@link Optional} used before the registry is sealed with the
+ * {@link ClassDispatchTable} of the sealed registry. The {@code offer} path
+ * looks up the implementation class, which the table resolves to its
+ * manipulator interface.
+ */
+@State(Scope.Benchmark)
+public class ManipulatorDispatchBenchmark {
+
+    private final Map<Class<? extends DataManipulator<?>>, SpongeDataProcessor<?>> processorMap = new MapMaker().concurrencyLevel(4).makeMap();
+    private ClassDispatchTable<SpongeDataProcessor<?>> table;
+
+    @Setup
+    public void setup() {
+        register(HealthData.class);
+        register(FoodData.class);
+        register(AgeableData.class);
+        register(SkinData.class);
+        register(DisplayNameData.class);
+        this.table = new ClassDispatchTable<SpongeDataProcessor<?>>(this.processorMap);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends DataManipulator<T>> void register(Class<T> manipulatorClass) {
+        this.processorMap.put(manipulatorClass, Mockito.mock(SpongeDataProcessor.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public Optional<SpongeDataProcessor<HealthData>> map() {
+        return Optional.fromNullable((SpongeDataProcessor<HealthData>) (Object) this.processorMap.get(HealthData.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public SpongeDataProcessor<HealthData> sealed() {
+        return (SpongeDataProcessor<HealthData>) this.table.get(HealthData.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public SpongeDataProcessor<HealthData> sealedImplClass() {
+        return (SpongeDataProcessor<HealthData>) this.table.get(SpongeHealthData.class);
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.util;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ClassDispatchTableTest {
+
+    interface Data {
+    }
+
+    interface NamedData extends Data {
+    }
+
+    static class BaseData implements Data {
+    }
+
+    static class NamedDataImpl extends BaseData implements NamedData {
+    }
+
+    static class Unrelated {
+    }
+
+    @Test
+    public void testRegisteredClass() {
+        ClassDispatchTable<String> table = new ClassDispatchTable<String>(ImmutableMap.of(Data.class, "data", NamedData.class, "named"));
+        Assert.assertEquals("data", table.get(Data.class));
+        Assert.assertEquals("named", table.get(NamedData.class));
+        Assert.assertFalse(table.isResolved(Data.class));
+    }
+
+    @Test
+    public void testClosestSupertype() {
+        // NamedData is one step away from the implementation, Data two steps
+        ClassDispatchTable<String> table = new ClassDispatchTable<String>(ImmutableMap.of(Data.class, "data", NamedData.class, "named"));
+        Assert.assertEquals("named", table.get(NamedDataImpl.class));
+        Assert.assertEquals("data", table.get(BaseData.class));
+        Assert.assertTrue(table.isResolved(NamedDataImpl.class));
+    }
+
+    @Test
+    public void testSuperclassBeforeInterfaces() {
+        // Both are one step away, the superclass is visited first
+        ClassDispatchTable<String> table = new ClassDispatchTable<String>(ImmutableMap.of(BaseData.class, "base", NamedData.class, "named"));
+        Assert.assertEquals("base", table.get(NamedDataImpl.class));
+    }
+
+    @Test
+    public void testNegativeCaching() {
+        ClassDispatchTable<String> table = new ClassDispatchTable<String>(ImmutableMap.of(Data.class, "data"));
+        Assert.assertFalse(table.isResolved(Unrelated.class));
+        Assert.assertNull(table.get(Unrelated.class));
+        Assert.assertTrue(table.isResolved(Unrelated.class));
+        Assert.assertNull(table.get(Unrelated.class));
+    }
+
+    @Test
+    public void testPutInvalidatesResolved() {
+        ClassDispatchTable<String> table = new ClassDispatchTable<String>(ImmutableMap.of(Data.class, "data"));
+        Assert.assertEquals("data", table.get(NamedDataImpl.class));
+        Assert.assertNull(table.get(Unrelated.class));
+
+        table.put(NamedData.class, "named");
+        Assert.assertFalse(table.isResolved(NamedDataImpl.class));
+        Assert.assertFalse(table.isResolved(Unrelated.class));
+        Assert.assertEquals("named", table.get(NamedDataImpl.class));
+        Assert.assertEquals("named", table.get(NamedData.class));
+        Assert.assertEquals("data", table.get(Data.class));
+
+        table.put(Object.class, "object");
+        Assert.assertEquals("object", table.get(Unrelated.class));
+    }
+
+    @Test
+    public void testManyEntries() {
+        // Grows past the initial capacity
+        ClassDispatchTable<String> table = new ClassDispatchTable<String>(ImmutableMap.<Class<?>, String>of());
+        Class<?>[] types = {Data.class, NamedData.class, BaseData.class, NamedDataImpl.class, Unrelated.class, String.class, Integer.class,
+                Long.class, Double.class, Float.class, Short.class, Byte.class, Character.class, Boolean.class, Number.class};
+        for (Class<?> type : types) {
+            table.put(type, type.getSimpleName());
+        }
+        for (Class<?> type : types) {
+            Assert.assertEquals(type.getSimpleName(), table.get(type));
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import com.google.common.base.Optional;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.Subscribe;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+
+/**
+ * Compares posting through the generated {@link EventDispatcher} with walking
+ * the baked handler list.
+ */
+@State(Scope.Benchmark)
+public class EventDispatchBenchmark {
+
+    private SpongeEventManager eventManager;
+    private RegisteredHandler.Cache cache;
+    private TestEvent event;
+
+    @Setup
+    public void setup() {
+        PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        PluginManager pluginManager = Mockito.mock(PluginManager.class);
+        Mockito.stub(pluginManager.fromInstance(Mockito.any())).toReturn(Optional.of(plugin));
+
+        this.eventManager = new SpongeEventManager(pluginManager);
+        for (int i = 0; i < 8; i++) {
+            this.eventManager.register(plugin, new TestListener());
+        }
+
+        this.event = new TestEvent();
+        this.cache = this.eventManager.getHandlerCache(this.event);
+
+        // Post enough events to get the dispatcher generated
+        for (int i = 0; i < 1000; i++) {
+            this.eventManager.post(this.event);
+        }
+    }
+
+    @Benchmark
+    public boolean dispatcher() {
+        return this.eventManager.post(this.event);
+    }
+
+    @Benchmark
+    public boolean handlerList() {
+        return SpongeEventManager.post(this.event, this.cache.getHandlers());
+    }
+
+    public static class TestEvent implements Event, Cancellable {
+
+        private boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+    }
+
+    public static class TestListener {
+
+        private int posts;
+
+        @Subscribe(order = Order.EARLY)
+        public void onEarly(TestEvent event) {
+            this.posts++;
+        }
+
+        @Subscribe(ignoreCancelled = true)
+        public void onDefault(TestEvent event) {
+            this.posts += 2;
+        }
+
+        @Subscribe(order = Order.POST)
+        public void onPost(Event event) {
+            this.posts--;
+        }
+
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.persistence.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.common.service.persistence.BinaryDataReader;
+import org.spongepowered.common.service.persistence.BinaryDataTranslator;
+import org.spongepowered.common.service.persistence.BinaryDataWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+public class BinaryTranslationTest {
+
+    private static DataContainer createContainer(int index) {
+        DataContainer container = new MemoryDataContainer();
+        container.set(new DataQuery("byte"), (byte) -3);
+        container.set(new DataQuery("short"), (short) 1234);
+        container.set(new DataQuery("int"), -index);
+        container.set(new DataQuery("long"), Long.MIN_VALUE + index);
+        container.set(new DataQuery("float"), 1.5F);
+        container.set(new DataQuery("double"), -10.25D);
+        container.set(new DataQuery("string"), "über " + index);
+        container.set(new DataQuery("list"), ImmutableList.of("a", "b", "c"));
+        container.set(new DataQuery("nested", "value"), index);
+        return container;
+    }
+
+    @Test
+    public void testContainer() {
+        DataContainer container = createContainer(7);
+        container.set(new DataQuery("myFake"), new FakeSerializable("bar", 7, 10.0D, "nested"));
+        DataView translated = BinaryDataTranslator.getInstance().translateFrom(BinaryDataTranslator.getInstance().translateData(container));
+        assertEquals(BinaryDataTranslator.getInstance().translateFrom(BinaryDataTranslator.getInstance().translateData(translated)), translated);
+        assertEquals(createContainer(7).get(new DataQuery("nested")), translated.get(new DataQuery("nested")));
+        assertEquals("your face", translated.getString(new DataQuery("myFake", "nested", "compound")).get());
+    }
+
+    @Test
+    public void testArrays() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(new DataQuery("bytes"), new byte[] {1, -2, 3});
+        container.set(new DataQuery("ints"), new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE});
+        container.set(new DataQuery("boxedBytes"), new Byte[] {4, 5});
+        container.set(new DataQuery("boxedInts"), new Integer[] {-6, 7});
+        DataView translated = BinaryDataTranslator.getInstance().translateFrom(BinaryDataTranslator.getInstance().translateData(container));
+        assertArrayEquals(new byte[] {1, -2, 3}, (byte[]) translated.get(new DataQuery("bytes")).get());
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE}, (int[]) translated.get(new DataQuery("ints")).get());
+        assertArrayEquals(new Byte[] {4, 5}, (Byte[]) translated.get(new DataQuery("boxedBytes")).get());
+        assertArrayEquals(new Integer[] {-6, 7}, (Integer[]) translated.get(new DataQuery("boxedInts")).get());
+    }
+
+    @Test
+    public void testStream() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryDataWriter writer = new BinaryDataWriter(Channels.newChannel(out), 16);
+        for (int i = 0; i < 100; i++) {
+            writer.write(createContainer(i));
+        }
+        writer.close();
+
+        // A small buffer makes the reader refill in the middle of values
+        BinaryDataReader reader = new BinaryDataReader(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), 16);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(createContainer(i), reader.read().get());
+        }
+        assertFalse(reader.read().isPresent());
+        reader.close();
+    }
+
+    private static ByteBuffer malformed(int... varInts) {
+        ByteBuffer buffer = ByteBuffer.allocate(5 + varInts.length * 5);
+        buffer.putInt(0x53444154).put((byte) 1);
+        for (int value : varInts) {
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    @Test(expected = EOFException.class)
+    public void testLengthExceedsBuffer() throws Exception {
+        // A container claiming a billion entries
+        new BinaryDataReader(malformed(1000000000)).read();
+    }
+
+    @Test(expected = IOException.class)
+    public void testLengthExceedsStream() throws Exception {
+        // One entry, whose new key is a string of a billion bytes
+        ByteBuffer buffer = malformed(1, 0, 1000000000);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        new BinaryDataReader(Channels.newChannel(new ByteArrayInputStream(bytes))).read();
+    }
+
+    @Test(expected = StreamCorruptedException.class)
+    public void testDepthExceedsMax() throws Exception {
+        // One entry "a" holding a list, nested in a list a thousand times
+        int[] varInts = new int[5 + 2 * 1000];
+        varInts[0] = 1;
+        varInts[2] = 1;
+        varInts[3] = 'a';
+        varInts[4] = 9;
+        for (int i = 5; i < varInts.length; i += 2) {
+            varInts[i] = 1;
+            varInts[i + 1] = 9;
+        }
+        new BinaryDataReader(malformed(varInts)).read();
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.persistence.data;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagDouble;
+import net.minecraft.nbt.NBTTagFloat;
+import net.minecraft.nbt.NBTTagList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.common.service.persistence.NbtTranslator;
+
+import java.util.UUID;
+
+/**
+ * Compares the eager and the lazy NBT translation of a zombie's NBT, as
+ * written by the entity, reading a single value and writing the container
+ * back to NBT.
+ */
+@State(Scope.Benchmark)
+public class NBTTranslationBenchmark {
+
+    private static final DataQuery HEALTH = new DataQuery("HealF");
+
+    private final NbtTranslator translator = NbtTranslator.getInstance();
+    private NBTTagCompound compound;
+
+    @Setup
+    public void setup() {
+        this.compound = new NBTTagCompound();
+        this.compound.setTag("Pos", doubles(104.5D, 64.0D, -231.5D));
+        this.compound.setTag("Motion", doubles(0.0D, -0.0784D, 0.0D));
+        NBTTagList rotation = new NBTTagList();
+        rotation.appendTag(new NBTTagFloat(173.2F));
+        rotation.appendTag(new NBTTagFloat(0.0F));
+        this.compound.setTag("Rotation", rotation);
+        this.compound.setFloat("FallDistance", 0.0F);
+        this.compound.setShort("Fire", (short) -1);
+        this.compound.setShort("Air", (short) 300);
+        this.compound.setBoolean("OnGround", true);
+        this.compound.setInteger("Dimension", 0);
+        this.compound.setBoolean("Invulnerable", false);
+        this.compound.setInteger("PortalCooldown", 0);
+        UUID uuid = UUID.randomUUID();
+        this.compound.setLong("UUIDMost", uuid.getMostSignificantBits());
+        this.compound.setLong("UUIDLeast", uuid.getLeastSignificantBits());
+        this.compound.setString("CustomName", "Steve's Zombie");
+        this.compound.setFloat("HealF", 20.0F);
+        this.compound.setShort("Health", (short) 20);
+        this.compound.setShort("HurtTime", (short) 0);
+        this.compound.setInteger("HurtByTimestamp", 0);
+        this.compound.setShort("DeathTime", (short) 0);
+        this.compound.setFloat("AbsorptionAmount", 0.0F);
+
+        NBTTagList attributes = new NBTTagList();
+        attributes.appendTag(attribute("generic.maxHealth", 20.0D));
+        attributes.appendTag(attribute("generic.knockbackResistance", 0.0D));
+        attributes.appendTag(attribute("generic.movementSpeed", 0.23D));
+        attributes.appendTag(attribute("generic.followRange", 40.0D));
+        attributes.appendTag(attribute("generic.attackDamage", 3.0D));
+        attributes.appendTag(attribute("zombie.spawnReinforcements", 0.05D));
+        this.compound.setTag("Attributes", attributes);
+
+        NBTTagList equipment = new NBTTagList();
+        equipment.appendTag(item("minecraft:iron_sword", 12));
+        for (int i = 0; i < 3; i++) {
+            equipment.appendTag(new NBTTagCompound());
+        }
+        equipment.appendTag(item("minecraft:leather_helmet", 3));
+        this.compound.setTag("Equipment", equipment);
+
+        NBTTagList dropChances = new NBTTagList();
+        for (int i = 0; i < 5; i++) {
+            dropChances.appendTag(new NBTTagFloat(0.085F));
+        }
+        this.compound.setTag("DropChances", dropChances);
+        this.compound.setBoolean("CanPickUpLoot", false);
+        this.compound.setBoolean("PersistenceRequired", false);
+        this.compound.setBoolean("Leashed", false);
+        this.compound.setBoolean("IsBaby", false);
+        this.compound.setBoolean("IsVillager", false);
+        this.compound.setInteger("ConversionTime", -1);
+        this.compound.setBoolean("CanBreakDoors", false);
+    }
+
+    private static NBTTagList doubles(double... values) {
+        NBTTagList list = new NBTTagList();
+        for (double value : values) {
+            list.appendTag(new NBTTagDouble(value));
+        }
+        return list;
+    }
+
+    private static NBTTagCompound attribute(String name, double base) {
+        NBTTagCompound attribute = new NBTTagCompound();
+        attribute.setString("Name", name);
+        attribute.setDouble("Base", base);
+        return attribute;
+    }
+
+    private static NBTTagCompound item(String id, int damage) {
+        NBTTagCompound item = new NBTTagCompound();
+        item.setString("id", id);
+        item.setByte("Count", (byte) 1);
+        item.setShort("Damage", (short) damage);
+        NBTTagCompound display = new NBTTagCompound();
+        display.setString("Name", "Rusty");
+        item.setTag("tag", new NBTTagCompound());
+        item.getCompoundTag("tag").setTag("display", display);
+        return item;
+    }
+
+    @Benchmark
+    public Object readEager() {
+        return this.translator.translateFrom(this.compound).get(HEALTH);
+    }
+
+    @Benchmark
+    public Object readLazy() {
+        return this.translator.translateFromLazily(this.compound).get(HEALTH);
+    }
+
+    @Benchmark
+    public NBTTagCompound roundTripEager() {
+        DataView view = this.translator.translateFrom(this.compound);
+        return this.translator.translateData(view);
+    }
+
+    @Benchmark
+    public NBTTagCompound roundTripLazy() {
+        DataView view = this.translator.translateFromLazily(this.compound);
+        view.get(HEALTH);
+        return this.translator.translateData(view);
+    }
+
+}
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.service.persistence.data;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.google.common.base.Optional;
@@ -54,4 +55,26 @@ public void testContainerToNBT() {
         assertTrue(container.equals(translatedContainer));
     }
 
+    @Test
+    public void testLazyContainer() {
+        NBTTagCompound compound = new NBTTagCompound();
+        compound.setString("foo", "bar");
+        compound.setIntArray("ints", new int[] {1, 2, 3});
+        NBTTagCompound nested = new NBTTagCompound();
+        nested.setDouble("theDouble", 10.0D);
+        compound.setTag("nested", nested);
+
+        // Untouched tags are copied back as they are
+        DataView lazy = NbtTranslator.getInstance().translateFromLazily(compound);
+        assertEquals(compound, NbtTranslator.getInstance().translateData(lazy));
+
+        DataView eager = NbtTranslator.getInstance().translateFrom(compound);
+        assertEquals(eager.get(new DataQuery("foo")), lazy.get(new DataQuery("foo")));
+        assertEquals(eager.get(new DataQuery("nested", "theDouble")), lazy.get(new DataQuery("nested", "theDouble")));
+        assertEquals(compound, NbtTranslator.getInstance().translateData(lazy));
+
+        lazy.set(new DataQuery("foo"), "baz");
+        assertEquals("baz", NbtTranslator.getInstance().translateData(lazy).getString("foo"));
+    }
+
 }
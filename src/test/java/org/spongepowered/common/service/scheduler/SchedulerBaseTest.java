@@ -0,0 +1,219 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.scheduler;
+
+import com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.List;
+
+public class SchedulerBaseTest {
+
+    private final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+    private final List<String> ran = Lists.newArrayList();
+    private TestScheduler scheduler;
+
+    @Before
+    public void setup() {
+        this.ran.clear();
+        this.scheduler = new TestScheduler();
+    }
+
+    private ScheduledTask task(final String name, long delay, boolean delayIsTicks, long interval, boolean intervalIsTicks) {
+        return new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, new Runnable() {
+
+            @Override
+            public void run() {
+                SchedulerBaseTest.this.ran.add(name);
+            }
+        }, name, delay, delayIsTicks, interval, intervalIsTicks, this.plugin);
+    }
+
+    private void cancel(ScheduledTask task) {
+        // ScheduledTask.cancel() goes through the global scheduler
+        task.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        this.scheduler.cancelTask(task);
+    }
+
+    @Test
+    public void testDueOrder() {
+        // Added out of order, must run in the order they are due
+        this.scheduler.addTask(task("c", 3, true, 0, true));
+        this.scheduler.addTask(task("a", 1, true, 0, true));
+        this.scheduler.addTask(task("b", 2, true, 0, true));
+
+        this.scheduler.tick();
+        Assert.assertEquals(Lists.newArrayList("a"), this.ran);
+        this.scheduler.tick();
+        Assert.assertEquals(Lists.newArrayList("a", "b"), this.ran);
+        this.scheduler.tick();
+        Assert.assertEquals(Lists.newArrayList("a", "b", "c"), this.ran);
+        Assert.assertTrue(this.scheduler.getScheduledTasks().isEmpty());
+    }
+
+    @Test
+    public void testRepeatingTask() {
+        ScheduledTask task = task("r", 0, true, 2, true);
+        this.scheduler.addTask(task);
+
+        this.scheduler.tick(5);
+        Assert.assertEquals(Lists.newArrayList("r", "r", "r"), this.ran);
+        Assert.assertTrue(this.scheduler.getTask(task.getUniqueId()).isPresent());
+    }
+
+    @Test
+    public void testCancellation() {
+        ScheduledTask cancelled = task("cancelled", 2, true, 0, true);
+        this.scheduler.addTask(cancelled);
+        this.scheduler.addTask(task("kept", 2, true, 0, true));
+        this.scheduler.tick();
+
+        cancel(cancelled);
+        Assert.assertFalse(this.scheduler.getTask(cancelled.getUniqueId()).isPresent());
+        Assert.assertEquals(1, this.scheduler.getCancelledCount());
+
+        this.scheduler.tick();
+        Assert.assertEquals(Lists.newArrayList("kept"), this.ran);
+        // Dropped once it was due, so it no longer counts towards a purge
+        Assert.assertEquals(0, this.scheduler.getCancelledCount());
+    }
+
+    @Test
+    public void testCancelRepeatingTaskWhileRunning() {
+        final ScheduledTask[] task = new ScheduledTask[1];
+        task[0] = new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, new Runnable() {
+
+            @Override
+            public void run() {
+                SchedulerBaseTest.this.ran.add("r");
+                cancel(task[0]);
+            }
+        }, "r", 0, true, 1, true, this.plugin);
+        this.scheduler.addTask(task[0]);
+
+        this.scheduler.tick(3);
+        Assert.assertEquals(Lists.newArrayList("r"), this.ran);
+        Assert.assertEquals(0, this.scheduler.getCancelledCount());
+    }
+
+    @Test
+    public void testPurgeCancelled() {
+        List<ScheduledTask> tasks = Lists.newArrayList();
+        for (int i = 0; i < 300; i++) {
+            ScheduledTask task = task("t" + i, 1000, true, 0, true);
+            tasks.add(task);
+            this.scheduler.addTask(task);
+        }
+        this.scheduler.tick();
+        for (ScheduledTask task : tasks) {
+            cancel(task);
+        }
+        Assert.assertEquals(300, this.scheduler.getCancelledCount());
+
+        this.scheduler.tick();
+        Assert.assertEquals(0, this.scheduler.getCancelledCount());
+        this.scheduler.tick(1000);
+        Assert.assertTrue(this.ran.isEmpty());
+    }
+
+    @Test
+    public void testTickTimestamp() throws InterruptedException {
+        // Due in 5 ticks, the wall clock doesn't matter
+        this.scheduler.addTask(task("ticks", 5, true, 0, true));
+        Thread.sleep(20);
+        this.scheduler.tick(4);
+        Assert.assertTrue(this.ran.isEmpty());
+        this.scheduler.tick();
+        Assert.assertEquals(Lists.newArrayList("ticks"), this.ran);
+    }
+
+    @Test
+    public void testWallClockTimestamp() throws InterruptedException {
+        // Due in 20 milliseconds, the ticks don't matter
+        this.scheduler.addTask(task("wall", 20, false, 0, false));
+        this.scheduler.runTick();
+        Assert.assertTrue(this.ran.isEmpty());
+        Assert.assertTrue(this.scheduler.getNextDueTime() != Long.MAX_VALUE);
+
+        Thread.sleep(40);
+        this.scheduler.runTick();
+        Assert.assertEquals(Lists.newArrayList("wall"), this.ran);
+        Assert.assertEquals(Long.MAX_VALUE, this.scheduler.getNextDueTime());
+    }
+
+    @Test
+    public void testWallClockNotDueOnTicks() {
+        this.scheduler.addTask(task("wall", 60000, false, 0, false));
+        this.scheduler.tick(100);
+        Assert.assertTrue(this.ran.isEmpty());
+    }
+
+    /**
+     * A scheduler that runs tasks inline, timed in ticks or wall clock time
+     * depending on the task.
+     */
+    private static final class TestScheduler extends SchedulerBase {
+
+        private long currentTick;
+
+        TestScheduler() {
+            super(ScheduledTask.TaskSynchronicity.SYNCHRONOUS);
+        }
+
+        void tick() {
+            this.currentTick++;
+            this.runTick();
+        }
+
+        void tick(int ticks) {
+            for (int i = 0; i < ticks; i++) {
+                this.tick();
+            }
+        }
+
+        @Override
+        protected boolean isTickTimestamp(ScheduledTask task) {
+            if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
+                return task.delayIsTicks;
+            }
+            return task.intervalIsTicks;
+        }
+
+        @Override
+        protected long getCurrentTick() {
+            return this.currentTick;
+        }
+
+        @Override
+        protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
+            runnable.run();
+        }
+    }
+
+}
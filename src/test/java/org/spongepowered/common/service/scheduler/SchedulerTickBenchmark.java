@@ -0,0 +1,77 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.scheduler;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.spongepowered.api.plugin.PluginContainer;
+
+/**
+ * Measures the cost of a tick of the {@link SyncScheduler} with many
+ * scheduled tasks of which only a few are due. The cost per tick should stay
+ * flat with the number of scheduled tasks.
+ */
+@State(Scope.Benchmark)
+public class SchedulerTickBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int tasks;
+
+    private SyncScheduler scheduler;
+
+    @Setup
+    public void setup() {
+        PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        Runnable runnable = new Runnable() {
+
+            @Override
+            public void run() {
+            }
+        };
+
+        this.scheduler = new SyncScheduler(0);
+        for (int i = 0; i < this.tasks; i++) {
+            // Delayed by up to a day of ticks, repeating every 10 minutes
+            this.scheduler.addTask(new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, runnable, "task-" + i,
+                    20 * 60 * 60 * 24 - i, true, 20 * 60 * 10, true, plugin));
+        }
+        // Two tasks that are due every tick
+        for (int i = 0; i < 2; i++) {
+            this.scheduler.addTask(new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, runnable, "tick-" + i, 0, true, 1, true,
+                    plugin));
+        }
+        this.scheduler.tick();
+    }
+
+    @Benchmark
+    public void tick() {
+        this.scheduler.tick();
+    }
+
+}
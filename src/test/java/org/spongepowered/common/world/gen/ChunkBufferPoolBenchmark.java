@@ -0,0 +1,118 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gen;
+
+import com.flowpowered.math.vector.Vector2i;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.chunk.ChunkPrimer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.util.gen.BiomeBuffer;
+import org.spongepowered.api.util.gen.MutableBiomeBuffer;
+import org.spongepowered.api.util.gen.MutableBlockBuffer;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.common.util.gen.ByteArrayMutableBiomeBuffer;
+import org.spongepowered.common.util.gen.ChunkPrimerBuffer;
+
+/**
+ * Measures the chunks per second of the buffer phase of
+ * {@link CustomChunkProviderGenerate#provideChunk(int, int)}, generating the
+ * chunks of a pregeneration radius in turn, with and without the
+ * {@link ChunkBufferPool}. Run with JMH's gc profiler ({@code -prof gc}) to
+ * see the bytes allocated per chunk.
+ */
+@State(Scope.Thread)
+public class ChunkBufferPoolBenchmark {
+
+    private static final Vector2i CHUNK_AREA = new Vector2i(16, 16);
+    private static final int RADIUS = 100;
+
+    private final ChunkBufferPool pool = new ChunkBufferPool(1);
+    private ByteArrayMutableBiomeBuffer cachedBiomes;
+    private BlockState bedrock;
+    private BlockState stone;
+    private BlockState grass;
+    private BiomeType plains;
+    private int chunkX = -RADIUS;
+    private int chunkZ = -RADIUS;
+
+    @Setup
+    public void setup() {
+        Bootstrap.register();
+        this.bedrock = (BlockState) Blocks.bedrock.getDefaultState();
+        this.stone = (BlockState) Blocks.stone.getDefaultState();
+        this.grass = (BlockState) Blocks.grass.getDefaultState();
+        this.plains = (BiomeType) BiomeGenBase.plains;
+
+        this.cachedBiomes = new ByteArrayMutableBiomeBuffer(Vector2i.ZERO, CHUNK_AREA);
+        this.cachedBiomes.detach();
+    }
+
+    private void nextChunk() {
+        if (++this.chunkX > RADIUS) {
+            this.chunkX = -RADIUS;
+            if (++this.chunkZ > RADIUS) {
+                this.chunkZ = -RADIUS;
+            }
+        }
+    }
+
+    private void generate(MutableBiomeBuffer biomes, MutableBlockBuffer blocks, BiomeBuffer biomeClone) {
+        biomes.fill(this.plains);
+        blocks.setHorizontalLayer(0, 1, this.bedrock);
+        blocks.setHorizontalLayer(1, 59, this.stone);
+        blocks.setHorizontalLayer(60, 1, biomeClone.getBiome(blocks.getBlockMin().getX(), blocks.getBlockMin().getZ()) == this.plains
+                ? this.grass : this.stone);
+    }
+
+    @Benchmark
+    public ChunkPrimer unpooled() {
+        // As provideChunk used to do it
+        nextChunk();
+        this.cachedBiomes.reuse(new Vector2i(this.chunkX << 4, this.chunkZ << 4));
+        ChunkPrimer primer = new ChunkPrimer();
+        generate(this.cachedBiomes, new ChunkPrimerBuffer(primer, this.chunkX, this.chunkZ), this.cachedBiomes.getImmutableClone());
+        this.cachedBiomes.detach();
+        return primer;
+    }
+
+    @Benchmark
+    public ChunkPrimer pooled() {
+        nextChunk();
+        ChunkBufferPool.Buffers buffers = this.pool.acquire(this.chunkX, this.chunkZ);
+        try {
+            generate(buffers.getBiomes(), buffers.getBlocks(), buffers.getBiomes().getImmutableClone());
+            return buffers.getBlocks().getChunkPrimer();
+        } finally {
+            this.pool.release(buffers);
+        }
+    }
+
+}